@@ -0,0 +1,91 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessBenchmark {
+
+    @Param({Payloads.KB_10, Payloads.MB_1})
+    public String size;
+
+    @Param({"100"})
+    public int appendCount;
+
+    private Json payload;
+    private Json article;
+
+    @Setup
+    public void setup() {
+        payload = Json.parse(Payloads.bytes(size));
+        article = payload.array("data").getFirst();
+    }
+
+    @Benchmark
+    public Json object() {
+        return payload.object("meta");
+    }
+
+    @Benchmark
+    public String nestedObject() {
+        return article.object("relationships").object("author").object("data").string("id");
+    }
+
+    @Benchmark
+    public List<Json> array() {
+        return payload.array("data");
+    }
+
+    @Benchmark
+    public Json arrayFirst() {
+        return payload.stream("data").findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return payload.integer("count");
+    }
+
+    @Benchmark
+    public String find() {
+        return payload.find("gender", String.class);
+    }
+
+    @Benchmark
+    public String findMissing() {
+        return payload.find("missing", String.class);
+    }
+
+    @Benchmark
+    public Json append() {
+        Json json = Json.create();
+        for (int i = 0; i < appendCount; i++) {
+            json.append("values", i);
+        }
+        return json;
+    }
+
+    @Benchmark
+    public Map<?, ?> convertTo() {
+        return article.convertTo(Map.class);
+    }
+}
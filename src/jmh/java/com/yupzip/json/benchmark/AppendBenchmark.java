@@ -0,0 +1,60 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppendBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int elements;
+
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, elements).boxed().toList();
+    }
+
+    @Benchmark
+    public Json appendIntegers() {
+        Json json = Json.create();
+        for (int i = 0; i < elements; i++) {
+            json.append("values", i);
+        }
+        return json;
+    }
+
+    @Benchmark
+    public Json appendStrings() {
+        Json json = Json.create();
+        for (int i = 0; i < elements; i++) {
+            json.append("values", "value");
+        }
+        return json;
+    }
+
+    @Benchmark
+    public Json appendAll() {
+        return Json.create().appendAll("values", values);
+    }
+}
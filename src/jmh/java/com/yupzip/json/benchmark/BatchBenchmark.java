@@ -0,0 +1,58 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({"500", "5000"})
+    public int messages;
+
+    private List<byte[]> batch;
+
+    @Setup
+    public void setup() {
+        batch = Collections.nCopies(messages, Payloads.bytes(Payloads.SMALL));
+    }
+
+    @Benchmark
+    public List<Json> parseLoop() {
+        List<Json> values = new ArrayList<>(batch.size());
+        for (byte[] message : batch) {
+            values.add(Json.parse(message));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public JsonBatch parseAll() {
+        return Json.parseAll(batch);
+    }
+
+    @Benchmark
+    public JsonBatch parseAllParallel() {
+        return Json.parseAll(batch, true);
+    }
+}
@@ -0,0 +1,89 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateBenchmark {
+
+    private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+    private Json dates;
+
+    @Setup
+    public void setup() {
+        dates = Json.create()
+                .put("timestamp", "2015-05-22T14:56:29.123+10:00")
+                .put("dateTime", "2015-05-22T14:56:29")
+                .put("date", "2015-05-22");
+    }
+
+    @Benchmark
+    public Date legacySimpleDateFormat() throws ParseException {
+        return new SimpleDateFormat(DATE_TIME_FORMAT).parse(dates.string("timestamp"));
+    }
+
+    @Benchmark
+    public Date date() {
+        return dates.date("timestamp", DATE_TIME_FORMAT);
+    }
+
+    @Benchmark
+    public LocalDate legacyLocalDatePattern() {
+        return LocalDate.parse(dates.string("date"), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    }
+
+    @Benchmark
+    public LocalDate localDatePattern() {
+        return dates.localDate("date", "yyyy-MM-dd");
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return dates.localDate("date");
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return dates.localDateTime("dateTime");
+    }
+
+    @Benchmark
+    public OffsetDateTime formatterOffsetDateTime() {
+        return OffsetDateTime.parse(dates.string("timestamp"));
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTime() {
+        return dates.offsetDateTime("timestamp");
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return dates.instant("timestamp");
+    }
+}
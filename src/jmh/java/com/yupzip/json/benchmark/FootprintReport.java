@@ -0,0 +1,42 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonConfiguration.MapType;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.util.Map;
+
+public final class FootprintReport {
+
+    private static final int[] KEY_COUNTS = {1, 2, 3, 5, 8, 16};
+
+    private FootprintReport() {}
+
+    public static void main(String[] args) {
+        System.out.println(VM.current().details());
+        System.out.println(ClassLayout.parseClass(Json.create().getClass()).toPrintable());
+        System.out.printf("%-16s %6s %14s%n", "map type", "keys", "bytes/instance");
+        for (MapType mapType : MapType.values()) {
+            for (int keyCount : KEY_COUNTS) {
+                System.out.printf("%-16s %6d %14d%n", mapType, keyCount, footprint(mapType, keyCount));
+            }
+        }
+    }
+
+    private static long footprint(MapType mapType, int keyCount) {
+        String[] keys = new String[keyCount];
+        Integer[] values = new Integer[keyCount];
+        Map<String, Object> map = mapType.createMap();
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key" + i;
+            values[i] = 1000 + i;
+            map.put(keys[i], values[i]);
+        }
+        Json json = Json.wrap(map);
+        return GraphLayout.parseInstance(json)
+                .subtract(GraphLayout.parseInstance(keys, values))
+                .totalSize();
+    }
+}
@@ -0,0 +1,85 @@
+package com.yupzip.json.benchmark;
+
+import com.yupzip.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final JsonMapper JSON_MAPPER = new JsonMapper();
+
+    @Param({Payloads.SMALL, Payloads.KB_10, Payloads.KB_100, Payloads.MB_1, Payloads.MB_10})
+    public String size;
+
+    private String jsonString;
+    private byte[] jsonData;
+    private Json json;
+    private Map<?, ?> map;
+
+    @Setup
+    public void setup() {
+        jsonData = Payloads.bytes(size);
+        jsonString = Payloads.string(size);
+        json = Json.parse(jsonData);
+        map = JSON_MAPPER.readValue(jsonData, Map.class);
+    }
+
+    @Benchmark
+    public Json parseString() {
+        return Json.parse(jsonString);
+    }
+
+    @Benchmark
+    public Json parseBytes() {
+        return Json.parse(jsonData);
+    }
+
+    @Benchmark
+    public Object parseBytesReadField() {
+        return Json.parse(jsonData).asMap().get("included");
+    }
+
+    @Benchmark
+    public Object parseLazyReadField() {
+        return Json.parseLazy(jsonData).asMap().get("included");
+    }
+
+    @Benchmark
+    public Map<?, ?> jacksonParseString() {
+        return JSON_MAPPER.readValue(jsonString, Map.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> jacksonParseBytes() {
+        return JSON_MAPPER.readValue(jsonData, Map.class);
+    }
+
+    @Benchmark
+    public String jsonToString() {
+        return json.toString();
+    }
+
+    @Benchmark
+    public String jacksonWriteString() {
+        return JSON_MAPPER.writeValueAsString(map);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yupzip.json.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+final class Payloads {
+
+    static final String SMALL = "SMALL";
+    static final String KB_10 = "10KB";
+    static final String KB_100 = "100KB";
+    static final String MB_1 = "1MB";
+    static final String MB_10 = "10MB";
+
+    private static final String RESOURCE = "jsonapi-org-example.json";
+
+    private Payloads() {}
+
+    static byte[] bytes(String size) {
+        return switch (size) {
+            case SMALL -> resource();
+            case KB_10 -> generate(10 * 1024);
+            case KB_100 -> generate(100 * 1024);
+            case MB_1 -> generate(1024 * 1024);
+            case MB_10 -> generate(10 * 1024 * 1024);
+            default -> throw new IllegalArgumentException("Unknown payload size " + size);
+        };
+    }
+
+    static String string(String size) {
+        return new String(bytes(size), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] resource() {
+        try (InputStream inputStream = Payloads.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (null == inputStream) {
+                throw new IllegalStateException("Missing benchmark resource " + RESOURCE);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] generate(int targetBytes) {
+        StringBuilder data = new StringBuilder(targetBytes + 512);
+        StringBuilder included = new StringBuilder();
+        int count = 0;
+        data.append("{\"data\":[");
+        while (data.length() + included.length() < targetBytes) {
+            if (count > 0) {
+                data.append(',');
+                included.append(',');
+            }
+            data.append("{\"type\":\"articles\",\"id\":\"").append(count).append('"')
+                    .append(",\"attributes\":{\"title\":\"JSON:API paints my bikeshed! #").append(count).append('"')
+                    .append(",\"body\":\"The shortest article. Ever.\"")
+                    .append(",\"created\":\"2015-05-22T14:56:29.000Z\"")
+                    .append(",\"updated\":\"2015-05-22T14:56:28.000Z\"")
+                    .append(",\"views\":").append(count * 7)
+                    .append(",\"rating\":").append(count % 50 / 10.0)
+                    .append(",\"published\":").append(count % 2 == 0)
+                    .append("},\"relationships\":{\"author\":{\"data\":{\"id\":\"").append(count % 97)
+                    .append("\",\"type\":\"people\"}}}}");
+            included.append("{\"type\":\"people\",\"id\":\"").append(count % 97)
+                    .append("\",\"attributes\":{\"name\":\"John\",\"age\":").append(20 + count % 60)
+                    .append(",\"gender\":\"male\"}}");
+            count++;
+        }
+        data.append("],\"included\":[").append(included)
+                .append("],\"meta\":{\"count\":").append(count).append("},\"count\":").append(count).append('}');
+        return data.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
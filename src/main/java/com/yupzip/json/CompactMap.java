@@ -0,0 +1,224 @@
+package com.yupzip.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+final class CompactMap extends AbstractMap<String, Object> {
+
+    static final int THRESHOLD = 8;
+
+    private static final Object[] EMPTY = {};
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] table = EMPTY;
+    private int size;
+    private int modCount;
+    private Map<String, Object> delegate;
+
+    @Override
+    public int size() {
+        return null == delegate ? size : delegate.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return null == delegate ? indexOf(key) >= 0 : delegate.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (null != delegate) {
+            return delegate.get(key);
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : table[2 * index + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (null != delegate) {
+            return delegate.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object previous = table[2 * index + 1];
+            table[2 * index + 1] = value;
+            return previous;
+        }
+        if (size == THRESHOLD) {
+            inflate();
+            return delegate.put(key, value);
+        }
+        if (2 * size == table.length) {
+            Object[] grown = new Object[2 * Math.min(THRESHOLD, Math.max(INITIAL_CAPACITY, 2 * size))];
+            System.arraycopy(table, 0, grown, 0, table.length);
+            table = grown;
+        }
+        table[2 * size] = key;
+        table[2 * size + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (null != delegate) {
+            return delegate.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = table[2 * index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        table = EMPTY;
+        size = 0;
+        delegate = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (null != delegate) {
+            return delegate.entrySet();
+        }
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            Object candidate = table[2 * i];
+            if (candidate == key || Objects.equals(candidate, key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(table, 2 * (index + 1), table, 2 * index, 2 * moved);
+        }
+        size--;
+        table[2 * size] = null;
+        table[2 * size + 1] = null;
+        modCount++;
+    }
+
+    private void inflate() {
+        Map<String, Object> map = LinkedHashMap.newLinkedHashMap(2 * THRESHOLD);
+        for (int i = 0; i < size; i++) {
+            map.put((String) table[2 * i], table[2 * i + 1]);
+        }
+        delegate = map;
+        table = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ArrayEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class ArrayEntry implements Entry<String, Object> {
+
+        private final int index;
+
+        private ArrayEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return (String) table[2 * index];
+        }
+
+        @Override
+        public Object getValue() {
+            return table[2 * index + 1];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = table[2 * index + 1];
+            table[2 * index + 1] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry<?, ?> entry
+                    && Objects.equals(getKey(), entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.yupzip.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+final class ConcurrentJsonMap extends AbstractMap<String, Object> implements ConcurrentMap<String, Object> {
+
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return null != key && values.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return null == key ? null : unmask(values.get(key));
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        Object value = null == key ? null : values.get(key);
+        return null == value ? defaultValue : unmask(value);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return unmask(values.put(key, mask(value)));
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return null == key ? null : unmask(values.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        return unmask(values.putIfAbsent(key, mask(value)));
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return null != key && values.remove(key, mask(value));
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        return values.replace(key, mask(oldValue), mask(newValue));
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        return unmask(values.replace(key, mask(value)));
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        Object value = values.get(key);
+        if (null != value && NULL != value) {
+            return value;
+        }
+        return unmask(values.compute(key, (k, existing) -> {
+            if (null != existing && NULL != existing) {
+                return existing;
+            }
+            Object computed = mappingFunction.apply(k);
+            return null == computed ? existing : computed;
+        }));
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return unmask(values.computeIfPresent(key, (k, existing) -> NULL == existing ? NULL : remappingFunction.apply(k, existing)));
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return values.compute(key, (k, existing) -> remappingFunction.apply(k, unmask(existing)));
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return values.compute(key, (k, existing) -> null == existing || NULL == existing ? value : remappingFunction.apply(existing, value));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = values.entrySet().iterator();
+                return new Iterator<>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        return new Entry<>() {
+
+                            @Override
+                            public String getKey() {
+                                return entry.getKey();
+                            }
+
+                            @Override
+                            public Object getValue() {
+                                return unmask(entry.getValue());
+                            }
+
+                            @Override
+                            public Object setValue(Object value) {
+                                return unmask(entry.setValue(mask(value)));
+                            }
+
+                            @Override
+                            public boolean equals(Object other) {
+                                return other instanceof Map.Entry<?, ?> that
+                                        && getKey().equals(that.getKey())
+                                        && Objects.equals(getValue(), that.getValue());
+                            }
+
+                            @Override
+                            public int hashCode() {
+                                return getKey().hashCode() ^ Objects.hashCode(getValue());
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        };
+    }
+
+    private static Object mask(Object value) {
+        return null == value ? NULL : value;
+    }
+
+    private static Object unmask(Object value) {
+        return NULL == value ? null : value;
+    }
+}
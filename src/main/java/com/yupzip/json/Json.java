@@ -5,12 +5,25 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.yupzip.json.jackson.JJson;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public interface Json {
@@ -24,6 +37,10 @@ public interface Json {
         return JJson.from(object);
     }
 
+    static Json wrap(Map<String, Object> map) {
+        return JJson.wrap(map);
+    }
+
     static boolean isValid(String jsonString) {
         try {
             parse(jsonString);
@@ -48,6 +65,70 @@ public interface Json {
         return JJson.parse(jsonData);
     }
 
+    static JsonBatch parseAll(List<byte[]> messages) {
+        return JJson.parseAll(messages);
+    }
+
+    static JsonBatch parseAll(List<byte[]> messages, boolean parallel) {
+        return JJson.parseAll(messages, parallel);
+    }
+
+    static JsonBatch parseAll(Stream<byte[]> messages) {
+        return JJson.parseAll(messages);
+    }
+
+    static JsonBatch parseAll(Stream<byte[]> messages, boolean parallel) {
+        return JJson.parseAll(messages, parallel);
+    }
+
+    static Json parseLazy(byte[] jsonData) {
+        return JJson.parseLazy(jsonData);
+    }
+
+    static Json parse(InputStream inputStream) {
+        return JJson.parse(inputStream);
+    }
+
+    static Json parse(Reader reader) {
+        return JJson.parse(reader);
+    }
+
+    static Json parse(Path path) {
+        return JJson.parse(path);
+    }
+
+    static Json parseMapped(Path path) {
+        return JJson.parseMapped(path);
+    }
+
+    static Json parse(ByteBuffer buffer) {
+        return JJson.parse(buffer);
+    }
+
+    static Stream<Json> lines(InputStream inputStream) {
+        return JJson.lines(inputStream);
+    }
+
+    static Stream<Json> lines(Path path) {
+        return JJson.lines(path);
+    }
+
+    static Stream<Json> parallelLines(Path path) {
+        return JJson.parallelLines(path);
+    }
+
+    static void parallelLines(Path path, Consumer<Json> consumer) {
+        JJson.parallelLines(path, consumer);
+    }
+
+    static Stream<Json> query(InputStream inputStream, String expression) {
+        return JJson.query(inputStream, expression);
+    }
+
+    static <T> Stream<T> query(InputStream inputStream, String expression, Class<T> type) {
+        return JJson.query(inputStream, expression, type);
+    }
+
     static <T> T parseAs(String jsonString, Class<T> clazz) {
         return JJson.parseAs(jsonString, clazz);
     }
@@ -56,6 +137,30 @@ public interface Json {
         return JJson.parseAs(jsonData, clazz);
     }
 
+    static <T> T parseAs(InputStream inputStream, Class<T> clazz) {
+        return JJson.parseAs(inputStream, clazz);
+    }
+
+    static <T> T parseAs(Reader reader, Class<T> clazz) {
+        return JJson.parseAs(reader, clazz);
+    }
+
+    static <T> T parseAs(Path path, Class<T> clazz) {
+        return JJson.parseAs(path, clazz);
+    }
+
+    static <T> T parseAs(ByteBuffer buffer, Class<T> clazz) {
+        return JJson.parseAs(buffer, clazz);
+    }
+
+    static CacheStats stringPoolStats() {
+        return JJson.stringPoolStats();
+    }
+
+    static CacheStats dateFormatterStats() {
+        return JJson.dateFormatterStats();
+    }
+
     static List<Json> array(Object object) {
         return JJson.array(object);
     }
@@ -90,6 +195,14 @@ public interface Json {
 
     Json append(String key, Json value);
 
+    Json appendAll(String key, Collection<?> values);
+
+    <T> T computeIfAbsent(String key, Function<String, ? extends T> mappingFunction);
+
+    long increment(String key);
+
+    long increment(String key, long delta);
+
     boolean hasKey(String key);
 
     boolean hasValueFor(String key);
@@ -108,6 +221,20 @@ public interface Json {
 
     <T> T convertTo(Class<T> type);
 
+    Json copy();
+
+    Json freeze();
+
+    boolean isFrozen();
+
+    Json persistent();
+
+    Json with(String key, Object value);
+
+    Json with(String key, Json value);
+
+    Json without(String key);
+
     Json object(String key);
 
     Json objectOr(String key, Json object);
@@ -142,8 +269,16 @@ public interface Json {
 
     Integer integerOrThrow(String key, RuntimeException e);
 
+    int integerAsInt(String key);
+
     List<Integer> integers(String key);
 
+    int[] ints(String key);
+
+    long[] longs(String key);
+
+    IntStream intStream(String key);
+
     Double decimal(String key);
 
     double decimalOr(String key, double defaultValue);
@@ -152,8 +287,14 @@ public interface Json {
 
     Double decimalOrThrow(String key, RuntimeException e);
 
+    double decimalAsDouble(String key);
+
     List<Double> decimals(String key);
 
+    double[] doubles(String key);
+
+    DoubleStream doubleStream(String key);
+
     Boolean bool(String key);
 
     boolean boolOr(String key, boolean defaultValue);
@@ -186,6 +327,14 @@ public interface Json {
 
     Date date(String dateKey, String timeKey, String joinString, String format);
 
+    LocalDate localDate(String key);
+
+    LocalDateTime localDateTime(String key);
+
+    OffsetDateTime offsetDateTime(String key);
+
+    Instant instant(String key);
+
     LocalDate localDate(String key, String format);
 
     LocalDate localDateOr(String key, String format, LocalDate defaultValue);
@@ -215,4 +364,36 @@ public interface Json {
     <T> Json map(String key, Consumer<T> consumer);
 
     <T> T find(String key, Class<T> type);
+
+    <T> Stream<T> findAll(String key, Class<T> type);
+
+    JsonKeyIndex keyIndex();
+
+    Json at(String path);
+
+    Stream<Json> query(String expression);
+
+    <T> Stream<T> query(String expression, Class<T> type);
+
+    Json at(JsonPath path);
+
+    String stringAt(String path);
+
+    String stringAt(JsonPath path);
+
+    Integer integerAt(String path);
+
+    Integer integerAt(JsonPath path);
+
+    List<Json> arrayAt(String path);
+
+    List<Json> arrayAt(JsonPath path);
+
+    void writeTo(OutputStream outputStream);
+
+    void writeTo(Writer writer);
+
+    void writeTo(ByteBuffer buffer);
+
+    byte[] toBytes();
 }
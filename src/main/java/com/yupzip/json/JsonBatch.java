@@ -0,0 +1,21 @@
+package com.yupzip.json;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+
+public record JsonBatch(List<Json> values, Duration elapsed) implements Iterable<Json> {
+
+    public int size() {
+        return values.size();
+    }
+
+    public Json get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public Iterator<Json> iterator() {
+        return values.iterator();
+    }
+}
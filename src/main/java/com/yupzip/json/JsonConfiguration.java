@@ -11,11 +11,25 @@ public class JsonConfiguration {
 
     public static final JsonParser JSON_PARSER;
     public static final MapType MAP_TYPE;
+    public static final ObjectAccess OBJECT_ACCESS;
+    public static final boolean PRIMITIVE_ARRAYS;
+    public static final int PATH_CACHE_SIZE;
+    public static final int DATE_FORMATTER_CACHE_SIZE;
+    public static final boolean STRING_POOL_ENABLED;
+    public static final int STRING_POOL_SIZE;
+    public static final int STRING_POOL_MAX_LENGTH;
 
     static {
         Properties props = loadProperties();
         MAP_TYPE = MapType.valueOf(props.getProperty("yupzip.json.map-type", "HASH_MAP"));
         JSON_PARSER = JsonParser.valueOf(props.getProperty("yupzip.json.parser", "JACKSON"));
+        OBJECT_ACCESS = ObjectAccess.valueOf(props.getProperty("yupzip.json.object-access", "COPY"));
+        PRIMITIVE_ARRAYS = Boolean.parseBoolean(props.getProperty("yupzip.json.primitive-arrays", "false"));
+        PATH_CACHE_SIZE = Integer.parseInt(props.getProperty("yupzip.json.path-cache-size", "1024"));
+        DATE_FORMATTER_CACHE_SIZE = Integer.parseInt(props.getProperty("yupzip.json.date-formatter-cache-size", "256"));
+        STRING_POOL_ENABLED = Boolean.parseBoolean(props.getProperty("yupzip.json.string-pool.enabled", "false"));
+        STRING_POOL_SIZE = Integer.parseInt(props.getProperty("yupzip.json.string-pool.size", "8192"));
+        STRING_POOL_MAX_LENGTH = Integer.parseInt(props.getProperty("yupzip.json.string-pool.max-length", "32"));
     }
 
     private JsonConfiguration() {}
@@ -34,13 +48,24 @@ public class JsonConfiguration {
 
     public enum MapType {
 
-        HASH_MAP, LINKED_HASH_MAP;
+        HASH_MAP, LINKED_HASH_MAP, COMPACT, CONCURRENT;
 
         public Map<String, Object> createMap() {
             if (this == LINKED_HASH_MAP) {
                 return new LinkedHashMap<>();
             }
+            if (this == COMPACT) {
+                return new CompactMap();
+            }
+            if (this == CONCURRENT) {
+                return new ConcurrentJsonMap();
+            }
             return new HashMap<>();
         }
     }
+
+    public enum ObjectAccess {
+
+        COPY, VIEW
+    }
 }
@@ -0,0 +1,15 @@
+package com.yupzip.json;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface JsonKeyIndex {
+
+    boolean contains(String key);
+
+    Set<String> keys();
+
+    <T> T find(String key, Class<T> type);
+
+    <T> Stream<T> findAll(String key, Class<T> type);
+}
@@ -2,11 +2,30 @@ package com.yupzip.json;
 
 public class JsonParseException extends RuntimeException {
 
+    private final long lineNumber;
+    private final long offset;
+
     public JsonParseException(Throwable throwable) {
         super(throwable);
+        this.lineNumber = -1;
+        this.offset = -1;
     }
 
     public JsonParseException(String message, Throwable throwable) {
+        this(message, throwable, -1, -1);
+    }
+
+    public JsonParseException(String message, Throwable throwable, long lineNumber, long offset) {
         super(message, throwable);
+        this.lineNumber = lineNumber;
+        this.offset = offset;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public long getOffset() {
+        return offset;
     }
 }
@@ -0,0 +1,12 @@
+package com.yupzip.json;
+
+import com.yupzip.json.jackson.JJsonPath;
+
+public interface JsonPath {
+
+    static JsonPath compile(String expression) {
+        return JJsonPath.compile(expression);
+    }
+
+    Object resolve(Object root);
+}
@@ -0,0 +1,38 @@
+package com.yupzip.json;
+
+import com.yupzip.json.jackson.JJsonWriter;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+public interface JsonWriter extends AutoCloseable {
+
+    static JsonWriter create(OutputStream outputStream) {
+        return JJsonWriter.create(outputStream);
+    }
+
+    static JsonWriter create(Writer writer) {
+        return JJsonWriter.create(writer);
+    }
+
+    JsonWriter put(String key, Object value);
+
+    JsonWriter add(String key, Object value);
+
+    JsonWriter append(Object value);
+
+    JsonWriter beginObject(String key);
+
+    JsonWriter beginArray(String key);
+
+    JsonWriter beginObject();
+
+    JsonWriter beginArray();
+
+    JsonWriter end();
+
+    JsonWriter flush();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,15 @@
+package com.yupzip.json.jackson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+final class AppendableList<E> extends ArrayList<E> {
+
+    AppendableList() {
+        super();
+    }
+
+    AppendableList(Collection<? extends E> values) {
+        super(values);
+    }
+}
@@ -0,0 +1,84 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.CacheStats;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+final class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, Math.min(maxSize, 1024)));
+    }
+
+    V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (null != entry) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+        misses.increment();
+        if (maxSize <= 0) {
+            return loader.apply(key);
+        }
+        entry = entries.computeIfAbsent(key, k -> {
+            V value = loader.apply(k);
+            return null == value ? null : new Entry<>(value);
+        });
+        if (entries.size() > maxSize) {
+            evict(key);
+        }
+        return null == entry ? null : entry.value;
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    // CLOCK sweep: entries read since the hand last passed get a second chance
+    private synchronized void evict(K retained) {
+        int budget = 2 * entries.size() + 1;
+        while (entries.size() > maxSize && budget-- > 0) {
+            if (null == hand || !hand.hasNext()) {
+                hand = entries.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<K, Entry<V>> candidate = hand.next();
+            Entry<V> entry = candidate.getValue();
+            if (candidate.getKey().equals(retained)) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else if (entries.remove(candidate.getKey(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.yupzip.json.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+final class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Insufficient buffer capacity, remaining 0 bytes");
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.remaining()) {
+            throw new IOException("Insufficient buffer capacity, remaining " + buffer.remaining() + " of " + length + " bytes");
+        }
+        buffer.put(bytes, offset, length);
+    }
+}
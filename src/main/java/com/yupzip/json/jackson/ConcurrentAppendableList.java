@@ -0,0 +1,128 @@
+package com.yupzip.json.jackson;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+final class ConcurrentAppendableList<E> extends AbstractList<E> implements RandomAccess {
+
+    private volatile Snapshot snapshot;
+
+    ConcurrentAppendableList(Collection<? extends E> values) {
+        Object[] elements = values.toArray();
+        this.snapshot = new Snapshot(Arrays.copyOf(elements, Math.max(10, elements.length)), elements.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Snapshot current = snapshot;
+        Objects.checkIndex(index, current.size());
+        return (E) current.elements()[index];
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean add(E element) {
+        return addAll(Arrays.asList(element));
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends E> values) {
+        Object[] added = values.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        Object[] elements = current.elements();
+        int size = current.size() + added.length;
+        if (size > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(size, elements.length + (elements.length >> 1)));
+        }
+        System.arraycopy(added, 0, elements, current.size(), added.length);
+        snapshot = new Snapshot(elements, size);
+        return true;
+    }
+
+    @Override
+    public synchronized E set(int index, E element) {
+        Snapshot current = snapshot;
+        E previous = get(index);
+        Object[] elements = Arrays.copyOf(current.elements(), current.elements().length);
+        elements[index] = element;
+        snapshot = new Snapshot(elements, current.size());
+        return previous;
+    }
+
+    @Override
+    public synchronized void add(int index, E element) {
+        Snapshot current = snapshot;
+        Objects.checkIndex(index, current.size() + 1);
+        Object[] elements = new Object[Math.max(current.size() + 1, current.elements().length)];
+        System.arraycopy(current.elements(), 0, elements, 0, index);
+        elements[index] = element;
+        System.arraycopy(current.elements(), index, elements, index + 1, current.size() - index);
+        snapshot = new Snapshot(elements, current.size() + 1);
+    }
+
+    @Override
+    public synchronized E remove(int index) {
+        Snapshot current = snapshot;
+        E previous = get(index);
+        Object[] elements = new Object[current.elements().length];
+        System.arraycopy(current.elements(), 0, elements, 0, index);
+        System.arraycopy(current.elements(), index + 1, elements, index, current.size() - index - 1);
+        snapshot = new Snapshot(elements, current.size() - 1);
+        return previous;
+    }
+
+    @Override
+    public synchronized boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized boolean removeIf(Predicate<? super E> filter) {
+        Snapshot current = snapshot;
+        Object[] elements = new Object[current.elements().length];
+        int size = 0;
+        for (int i = 0; i < current.size(); i++) {
+            if (!filter.test((E) current.elements()[i])) {
+                elements[size++] = current.elements()[i];
+            }
+        }
+        if (size == current.size()) {
+            return false;
+        }
+        snapshot = new Snapshot(elements, size);
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        snapshot = new Snapshot(new Object[10], 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        Snapshot current = snapshot;
+        return (Iterator<E>) Arrays.asList(current.elements()).subList(0, current.size()).iterator();
+    }
+
+    private record Snapshot(Object[] elements, int size) {}
+}
@@ -0,0 +1,134 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.CacheStats;
+import com.yupzip.json.JsonParseException;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static com.yupzip.json.JsonConfiguration.DATE_FORMATTER_CACHE_SIZE;
+
+final class DateFormatters {
+
+    private static final BoundedCache<Key, DatePattern> PATTERNS = new BoundedCache<>(DATE_FORMATTER_CACHE_SIZE);
+
+    private DateFormatters() {}
+
+    static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter formatter = pattern(pattern, null).formatter();
+        return null == formatter ? DateTimeFormatter.ofPattern(pattern) : formatter;
+    }
+
+    static Date parseDate(String value, String pattern, String timeZone) {
+        DatePattern datePattern = pattern(pattern, timeZone);
+        if (datePattern.compatible()) {
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor parsed = datePattern.formatter().parseUnresolved(value, position);
+            if (null != parsed && position.getErrorIndex() < 0 && position.getIndex() == value.length()) {
+                return toDate(parsed, datePattern.zone());
+            }
+        }
+        SimpleDateFormat dateFormat = null == datePattern.legacy() ? legacy(pattern, timeZone) : (SimpleDateFormat) datePattern.legacy().clone();
+        try {
+            return dateFormat.parse(value);
+        } catch (ParseException e) {
+            throw new JsonParseException("Error parsing value to date " + value, e);
+        }
+    }
+
+    static CacheStats stats() {
+        return PATTERNS.stats();
+    }
+
+    private static DatePattern pattern(String pattern, String timeZone) {
+        return PATTERNS.get(new Key(pattern, timeZone), DateFormatters::compile);
+    }
+
+    private static DatePattern compile(Key key) {
+        SimpleDateFormat legacy;
+        try {
+            legacy = legacy(key.pattern(), key.timeZone());
+        } catch (IllegalArgumentException e) {
+            legacy = null;
+        }
+        DateTimeFormatter formatter;
+        try {
+            formatter = DateTimeFormatter.ofPattern(key.pattern());
+        } catch (IllegalArgumentException e) {
+            return new DatePattern(null, false, null, legacy);
+        }
+        ZoneId zone = null == key.timeZone() ? null : TimeZone.getTimeZone(key.timeZone()).toZoneId();
+        return new DatePattern(formatter, isLegacyCompatible(key.pattern()), zone, legacy);
+    }
+
+    private static SimpleDateFormat legacy(String pattern, String timeZone) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+        if (null != timeZone) {
+            dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+        }
+        return dateFormat;
+    }
+
+    private static Date toDate(TemporalAccessor parsed, ZoneId zone) {
+        LocalDateTime dateTime = LocalDateTime.of(field(parsed, ChronoField.YEAR_OF_ERA, 1970), 1, 1, 0, 0)
+                .plusMonths(field(parsed, ChronoField.MONTH_OF_YEAR, 1) - 1)
+                .plusDays(field(parsed, ChronoField.DAY_OF_MONTH, 1) - 1)
+                .plusHours(field(parsed, ChronoField.HOUR_OF_DAY, 0))
+                .plusMinutes(field(parsed, ChronoField.MINUTE_OF_HOUR, 0))
+                .plusSeconds(field(parsed, ChronoField.SECOND_OF_MINUTE, 0))
+                .plusNanos(field(parsed, ChronoField.NANO_OF_SECOND, 0));
+        if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+            return Date.from(dateTime.toInstant(ZoneOffset.ofTotalSeconds((int) parsed.getLong(ChronoField.OFFSET_SECONDS))));
+        }
+        return Date.from(dateTime.atZone(null == zone ? ZoneId.systemDefault() : zone).toInstant());
+    }
+
+    private static int field(TemporalAccessor parsed, ChronoField field, int defaultValue) {
+        return parsed.isSupported(field) ? (int) parsed.getLong(field) : defaultValue;
+    }
+
+    private static boolean isLegacyCompatible(String pattern) {
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            boolean compatible = switch (c) {
+                case 'y' -> count == 4;
+                case 'M', 'd', 'H', 'm', 's' -> count <= 2;
+                case 'S' -> count == 3;
+                case 'X' -> count <= 3;
+                case '[', ']', '{', '}', '#' -> false;
+                default -> !Character.isLetter(c);
+            };
+            if (!compatible) {
+                return false;
+            }
+            i += count;
+        }
+        return true;
+    }
+
+    private record Key(String pattern, String timeZone) {}
+
+    private record DatePattern(DateTimeFormatter formatter, boolean compatible, ZoneId zone, SimpleDateFormat legacy) {}
+}
@@ -0,0 +1,74 @@
+package com.yupzip.json.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yupzip.json.Json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class FrozenJson extends JJson {
+
+    @JsonIgnore
+    private final int hashCode;
+
+    @JsonIgnore
+    private final String serialized;
+
+    FrozenJson(Map<String, Object> properties) {
+        super(freezeMap(properties));
+        this.hashCode = super.hashCode();
+        this.serialized = super.toString();
+    }
+
+    @Override
+    public Json freeze() {
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return serialized;
+    }
+
+    private static Map<String, Object> freezeMap(Map<?, ?> map) {
+        Map<String, Object> frozen = LinkedHashMap.newLinkedHashMap(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            frozen.put((String) entry.getKey(), freezeValue(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    private static Object freezeValue(Object value) {
+        if (value instanceof FrozenJson json) {
+            return json.asMap();
+        }
+        if (value instanceof Json json) {
+            return freezeMap(json.asMap());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return freezeMap(map);
+        }
+        if (value instanceof List<?> list) {
+            Object[] elements = new Object[list.size()];
+            int i = 0;
+            for (Object element : list) {
+                elements[i++] = freezeValue(element);
+            }
+            return Collections.unmodifiableList(Arrays.asList(elements));
+        }
+        return value;
+    }
+}
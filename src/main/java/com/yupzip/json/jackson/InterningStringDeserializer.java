@@ -0,0 +1,19 @@
+package com.yupzip.json.jackson;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.jdk.StringDeserializer;
+
+final class InterningStringDeserializer extends StringDeserializer {
+
+    private final StringPool pool;
+
+    InterningStringDeserializer(StringPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) {
+        return pool.intern(super.deserialize(parser, context));
+    }
+}
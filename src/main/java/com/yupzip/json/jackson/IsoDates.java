@@ -0,0 +1,135 @@
+package com.yupzip.json.jackson;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+final class IsoDates {
+
+    private static final int[] NANO_SCALE = {100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    private IsoDates() {}
+
+    static LocalDate localDate(String text) {
+        LocalDate value = text.length() == 10 ? date(text) : null;
+        return null != value ? value : LocalDate.parse(text);
+    }
+
+    static LocalDateTime localDateTime(String text) {
+        LocalDateTime value = dateTime(text, text.length());
+        return null != value ? value : LocalDateTime.parse(text);
+    }
+
+    static OffsetDateTime offsetDateTime(String text) {
+        OffsetDateTime value = offsetDateTimeOrNull(text);
+        return null != value ? value : OffsetDateTime.parse(text);
+    }
+
+    static Instant instant(String text) {
+        OffsetDateTime value = offsetDateTimeOrNull(text);
+        return null != value ? value.toInstant() : Instant.parse(text);
+    }
+
+    private static OffsetDateTime offsetDateTimeOrNull(String text) {
+        int offsetStart = offsetStart(text);
+        if (offsetStart < 0) {
+            return null;
+        }
+        LocalDateTime dateTime = dateTime(text, offsetStart);
+        ZoneOffset offset = null == dateTime ? null : offset(text, offsetStart);
+        return null == offset ? null : OffsetDateTime.of(dateTime, offset);
+    }
+
+    private static LocalDate date(String text) {
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (year < 0 || month < 0 || day < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime dateTime(String text, int end) {
+        if ((end != 16 && end < 19) || end > 29 || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        LocalDate date = date(text);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = 0;
+        int nano = 0;
+        if (end > 16) {
+            second = text.charAt(16) == ':' ? digits(text, 17, 2) : -1;
+            if (end > 19) {
+                int fraction = end - 20;
+                nano = text.charAt(19) == '.' && fraction > 0 ? digits(text, 20, fraction) : -1;
+                nano = nano < 0 ? -1 : nano * NANO_SCALE[fraction - 1];
+            }
+        }
+        if (null == date || hour < 0 || minute < 0 || second < 0 || nano < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int offsetStart(String text) {
+        int length = text.length();
+        if (length > 16 && text.charAt(length - 1) == 'Z') {
+            return length - 1;
+        }
+        for (int i = 16; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '+' || c == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ZoneOffset offset(String text, int start) {
+        int length = text.length() - start;
+        if (length == 1 && text.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        int sign = text.charAt(start) == '-' ? -1 : 1;
+        int hours = length >= 3 ? digits(text, start + 1, 2) : -1;
+        int minutes = switch (length) {
+            case 3 -> 0;
+            case 5 -> digits(text, start + 3, 2);
+            case 6 -> text.charAt(start + 3) == ':' ? digits(text, start + 4, 2) : -1;
+            default -> -1;
+        };
+        if (hours < 0 || minutes < 0) {
+            return null;
+        }
+        try {
+            return ZoneOffset.ofHoursMinutes(sign * hours, sign * minutes);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
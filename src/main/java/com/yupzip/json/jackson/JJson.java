@@ -5,58 +5,87 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yupzip.json.CacheStats;
 import com.yupzip.json.Json;
+import com.yupzip.json.JsonBatch;
+import com.yupzip.json.JsonConfiguration.ObjectAccess;
+import com.yupzip.json.JsonKeyIndex;
 import com.yupzip.json.JsonParseException;
+import com.yupzip.json.JsonPath;
 import com.yupzip.json.PropertyRequiredException;
+import com.yupzip.json.jackson.PrimitiveLists.DoubleList;
+import com.yupzip.json.jackson.PrimitiveLists.IntList;
+import com.yupzip.json.jackson.PrimitiveLists.LongList;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectWriter;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import tools.jackson.databind.JavaType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TimeZone;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.yupzip.json.JsonConfiguration.MAP_TYPE;
+import static com.yupzip.json.JsonConfiguration.OBJECT_ACCESS;
+import static com.yupzip.json.JsonConfiguration.PRIMITIVE_ARRAYS;
 import static com.yupzip.json.jackson.JacksonConfiguration.JSON_READER;
 import static com.yupzip.json.jackson.JacksonConfiguration.JSON_TYPE;
+import static com.yupzip.json.jackson.JacksonConfiguration.JSON_WRITER;
 import static com.yupzip.json.jackson.JacksonConfiguration.LIST_TYPE_DOUBLE;
 import static com.yupzip.json.jackson.JacksonConfiguration.LIST_TYPE_INTEGER;
 import static com.yupzip.json.jackson.JacksonConfiguration.LIST_TYPE_JSON;
 import static com.yupzip.json.jackson.JacksonConfiguration.LIST_TYPE_STRING;
+import static com.yupzip.json.jackson.JacksonConfiguration.STRING_POOL;
 import static com.yupzip.json.jackson.JacksonConfiguration.JSON_MAPPER;
 
 @JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
 public class JJson implements Json {
 
-    @JsonIgnore
-    private final ObjectWriter objectWriter;
-
     @JsonIgnore
     private final Map<String, Object> properties;
 
 
     private JJson() {
-        this.properties = MAP_TYPE.createMap();
-        this.objectWriter = JSON_MAPPER.writer();
+        this(MAP_TYPE.createMap());
+    }
+
+    JJson(Map<String, Object> properties) {
+        this.properties = properties;
     }
 
     public static Json create() {
         return new JJson();
     }
 
+    public static Json wrap(Map<String, Object> map) {
+        return null == map ? null : new JJson(map);
+    }
+
     public static Optional<Json> from(Object object) {
         return Optional.ofNullable(JSON_MAPPER.convertValue(object, JSON_TYPE));
     }
@@ -85,6 +114,107 @@ public class JJson implements Json {
         }
     }
 
+    public static JsonBatch parseAll(List<byte[]> messages) {
+        return parseAll(messages, false);
+    }
+
+    public static JsonBatch parseAll(List<byte[]> messages, boolean parallel) {
+        long start = System.nanoTime();
+        Json[] values = new Json[messages.size()];
+        IntStream indexes = IntStream.range(0, values.length);
+        (parallel ? indexes.parallel() : indexes).forEach(i -> values[i] = parseMessage(messages.get(i), i));
+        return new JsonBatch(Collections.unmodifiableList(Arrays.asList(values)), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public static JsonBatch parseAll(Stream<byte[]> messages) {
+        return parseAll(messages, false);
+    }
+
+    public static JsonBatch parseAll(Stream<byte[]> messages, boolean parallel) {
+        return parseAll(messages.toList(), parallel);
+    }
+
+    public static Json parseLazy(byte[] jsonData) {
+        return new JJson(new LazyMap(jsonData));
+    }
+
+    public static Json parse(InputStream inputStream) {
+        try {
+            return JSON_READER.readValue(inputStream);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON stream ", e);
+        }
+    }
+
+    public static Json parse(Reader reader) {
+        try {
+            return JSON_READER.readValue(reader);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON stream ", e);
+        }
+    }
+
+    public static Json parse(Path path) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return JSON_READER.readValue(inputStream);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON file " + path, e);
+        }
+    }
+
+    public static Json parseMapped(Path path) {
+        try (InputStream inputStream = new MappedFileInputStream(path)) {
+            return JSON_READER.readValue(inputStream);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON file " + path, e);
+        }
+    }
+
+    public static Json parse(ByteBuffer buffer) {
+        try {
+            if (buffer.hasArray()) {
+                return JSON_READER.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            }
+            return JSON_READER.readValue(new ByteBufferInputStream(buffer));
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON buffer ", e);
+        }
+    }
+
+    public static Stream<Json> lines(InputStream inputStream) {
+        return JsonLines.stream(inputStream);
+    }
+
+    public static Stream<Json> lines(Path path) {
+        return JsonLines.stream(path);
+    }
+
+    public static Stream<Json> parallelLines(Path path) {
+        return JsonLinesSpliterator.stream(path);
+    }
+
+    public static void parallelLines(Path path, Consumer<Json> consumer) {
+        try (Stream<Json> stream = parallelLines(path)) {
+            stream.unordered().forEach(consumer);
+        }
+    }
+
+    public static Stream<Json> query(InputStream inputStream, String expression) {
+        return JsonQuery.compile(expression).select(inputStream).map(value -> queriedObject(value, expression));
+    }
+
+    public static <T> Stream<T> query(InputStream inputStream, String expression, Class<T> type) {
+        return JsonQuery.compile(expression).select(inputStream).map(value -> queriedValue(value, type, expression));
+    }
+
+    public static CacheStats stringPoolStats() {
+        return STRING_POOL.stats();
+    }
+
+    public static CacheStats dateFormatterStats() {
+        return DateFormatters.stats();
+    }
+
     public static <T> T parseAs(String jsonString, Class<T> clazz) {
         try {
             return JSON_MAPPER.readValue(jsonString, clazz);
@@ -101,6 +231,41 @@ public class JJson implements Json {
         }
     }
 
+    public static <T> T parseAs(InputStream inputStream, Class<T> clazz) {
+        try {
+            return JSON_MAPPER.readValue(inputStream, clazz);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON stream ", e);
+        }
+    }
+
+    public static <T> T parseAs(Reader reader, Class<T> clazz) {
+        try {
+            return JSON_MAPPER.readValue(reader, clazz);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON stream ", e);
+        }
+    }
+
+    public static <T> T parseAs(Path path, Class<T> clazz) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return JSON_MAPPER.readValue(inputStream, clazz);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON file " + path, e);
+        }
+    }
+
+    public static <T> T parseAs(ByteBuffer buffer, Class<T> clazz) {
+        try {
+            if (buffer.hasArray()) {
+                return JSON_MAPPER.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), clazz);
+            }
+            return JSON_MAPPER.readValue(new ByteBufferInputStream(buffer), clazz);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON buffer ", e);
+        }
+    }
+
     public static List<Json> array(Object object) {
         try {
             return JSON_MAPPER.convertValue(object, LIST_TYPE_JSON);
@@ -111,18 +276,23 @@ public class JJson implements Json {
 
     public static String asString(Object object) {
         try {
-            return JSON_MAPPER.writer().writeValueAsString(object);
+            return JSON_WRITER.writeValueAsString(object);
         } catch (JacksonException e) {
             throw new JsonParseException(e);
         }
     }
 
-    @JsonAnySetter
+    @JsonAnySetter(enabled = false)
     public Json put(String key, Object value) {
         properties.put(key, value);
         return this;
     }
 
+    @JsonAnySetter
+    private void set(String key, Object value) {
+        properties.put(key, PRIMITIVE_ARRAYS ? PrimitiveLists.compact(value) : value);
+    }
+
     @JsonAnyGetter
     public Map<String, Object> asMap() {
         return properties;
@@ -144,7 +314,7 @@ public class JJson implements Json {
     }
 
     public Json put(Map<String, Object> map) {
-        properties.putAll(map);
+        copyProperties(map, properties);
         return this;
     }
 
@@ -172,41 +342,76 @@ public class JJson implements Json {
 
     public Json append(String key, String value) {
         if (null != value) {
-            List<String> values = properties.containsKey(key) ? strings(key) : new ArrayList<>();
-            values.add(value);
-            properties.put(key, values);
+            if (properties instanceof ConcurrentMap<String, Object> concurrent) {
+                appendConcurrently(concurrent, key, List.of(value));
+            } else {
+                appendable(key, LIST_TYPE_STRING).add(value);
+            }
         }
         return this;
     }
 
     public Json append(String key, Integer value) {
         if (null != value) {
-            List<Integer> values = properties.containsKey(key) ? integers(key) : new ArrayList<>();
-            values.add(value);
-            properties.put(key, values);
+            if (properties instanceof ConcurrentMap<String, Object> concurrent) {
+                appendConcurrently(concurrent, key, List.of(value));
+            } else {
+                appendable(key, LIST_TYPE_INTEGER).add(value);
+            }
         }
         return this;
     }
 
     public Json append(String key, Double value) {
         if (null != value) {
-            List<Double> values = properties.containsKey(key) ? decimals(key) : new ArrayList<>();
-            values.add(value);
-            properties.put(key, values);
+            if (properties instanceof ConcurrentMap<String, Object> concurrent) {
+                appendConcurrently(concurrent, key, List.of(value));
+            } else {
+                appendable(key, LIST_TYPE_DOUBLE).add(value);
+            }
         }
         return this;
     }
 
-    @SuppressWarnings("unchecked")
     public Json append(String key, Json value) {
         if (null != value) {
-            List<Map<String, Object>> values = properties.containsKey(key) ? (List<Map<String, Object>>) properties.get(key) : new ArrayList<>();
-            values.add(value.asMap());
-            properties.put(key, values);
+            if (properties instanceof ConcurrentMap<String, Object> concurrent) {
+                appendConcurrently(concurrent, key, List.of(value.asMap()));
+            } else {
+                appendable(key, null).add(value.asMap());
+            }
+        }
+        return this;
+    }
+
+    public Json appendAll(String key, Collection<?> values) {
+        if (null != values && !values.isEmpty()) {
+            List<Object> elements = new ArrayList<>(values.size());
+            for (Object value : values) {
+                elements.add(value instanceof Json json ? json.asMap() : value);
+            }
+            if (properties instanceof ConcurrentMap<String, Object> concurrent) {
+                appendConcurrently(concurrent, key, elements);
+            } else {
+                appendable(key, null).addAll(elements);
+            }
         }
         return this;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(String key, Function<String, ? extends T> mappingFunction) {
+        return (T) properties.computeIfAbsent(key, mappingFunction);
+    }
+
+    public long increment(String key) {
+        return increment(key, 1L);
+    }
+
+    public long increment(String key, long delta) {
+        return ((Number) properties.merge(key, delta, (current, added) -> ((Number) current).longValue() + (Long) added)).longValue();
+    }
+
     public boolean hasKey(String key) {
         return this.properties.containsKey(key);
     }
@@ -247,7 +452,7 @@ public class JJson implements Json {
     }
 
     public <T> T get(String key, Class<T> type) {
-        return JSON_MAPPER.convertValue(properties.get(key), type);
+        return convert(properties.get(key), type);
     }
 
     public <T> T convertTo(Class<T> type) {
@@ -258,8 +463,48 @@ public class JJson implements Json {
         }
     }
 
+    public Json copy() {
+        return JSON_MAPPER.convertValue(this, JSON_TYPE);
+    }
+
+    public Json freeze() {
+        return new FrozenJson(properties);
+    }
+
+    public boolean isFrozen() {
+        return false;
+    }
+
+    public Json persistent() {
+        return properties instanceof PersistentMap ? this : new JJson(persistentMap(properties));
+    }
+
+    public Json with(String key, Object value) {
+        if (properties instanceof PersistentMap map) {
+            return new JJson(map.with(key, persistentValue(value)));
+        }
+        Map<String, Object> copy = MAP_TYPE.createMap();
+        copyProperties(properties, copy);
+        copy.put(key, value);
+        return new JJson(copy);
+    }
+
+    public Json with(String key, Json value) {
+        return with(key, (Object) (value == null ? null : value.asMap()));
+    }
+
+    public Json without(String key) {
+        if (properties instanceof PersistentMap map) {
+            return new JJson(map.without(key));
+        }
+        Map<String, Object> copy = MAP_TYPE.createMap();
+        copyProperties(properties, copy);
+        copy.remove(key);
+        return new JJson(copy);
+    }
+
     public Json object(String key) {
-        return JSON_MAPPER.convertValue(properties.get(key), JSON_TYPE);
+        return nested(properties.get(key));
     }
 
     public Json objectOr(String key, Json object) {
@@ -271,14 +516,14 @@ public class JJson implements Json {
         if (!properties.containsKey(key) || null == properties.get(key)) {
             throw new PropertyRequiredException();
         }
-        return JSON_MAPPER.convertValue(properties.get(key), JSON_TYPE);
+        return nested(properties.get(key));
     }
 
     public Json objectOrThrow(String key, RuntimeException e) {
         if (!properties.containsKey(key) || null == properties.get(key)) {
             throw e;
         }
-        return JSON_MAPPER.convertValue(properties.get(key), JSON_TYPE);
+        return nested(properties.get(key));
     }
 
     public Optional<Json> seek(String key) {
@@ -286,11 +531,19 @@ public class JJson implements Json {
     }
 
     public Stream<Json> stream(String key) {
-        return seekArray(key).stream().flatMap(Collection::stream);
+        List<Json> list = array(key);
+        return null == list ? Stream.empty() : list.stream();
     }
 
     public List<Json> array(String key) {
-        return JSON_MAPPER.convertValue(properties.get(key), LIST_TYPE_JSON);
+        return nestedArray(properties.get(key));
+    }
+
+    static List<Json> nestedArray(Object value) {
+        if (value instanceof List<?> list) {
+            return new JsonList(list instanceof RandomAccess ? list : new ArrayList<>(list));
+        }
+        return JSON_MAPPER.convertValue(value, LIST_TYPE_JSON);
     }
 
     public Optional<List<Json>> seekArray(String key) {
@@ -336,7 +589,7 @@ public class JJson implements Json {
 
     public Integer integer(String key) {
         try {
-            return get(key, Integer.class);
+            return toInteger(properties.get(key));
         } catch (Exception e) {
             throw new JsonParseException("Error parsing value to integer for key " + key, e);
         }
@@ -344,8 +597,9 @@ public class JJson implements Json {
 
     public int integerOr(String key, int defaultValue) {
         try {
-            if (properties.containsKey(key) && null != properties.get(key)) {
-                return integer(key);
+            Integer value = integer(key);
+            if (null != value) {
+                return value;
             }
         } catch (Exception e) {
             // return default on parsing error
@@ -367,6 +621,87 @@ public class JJson implements Json {
         return integer(key);
     }
 
+    public int integerAsInt(String key) {
+        Object value = properties.get(key);
+        if (value instanceof Integer integer) {
+            return integer;
+        }
+        if (null == value) {
+            throw new PropertyRequiredException();
+        }
+        return integer(key);
+    }
+
+    public int[] ints(String key) {
+        Object value = properties.get(key);
+        try {
+            if (null == value || value instanceof IntList) {
+                return null == value ? null : ((IntList) value).toIntArray();
+            }
+            if (value instanceof Collection<?> collection) {
+                int[] result = new int[collection.size()];
+                int index = 0;
+                for (Object element : collection) {
+                    result[index++] = toInteger(element);
+                }
+                return result;
+            }
+            return JSON_MAPPER.convertValue(value, int[].class);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing value to int array for key " + key, e);
+        }
+    }
+
+    public long[] longs(String key) {
+        Object value = properties.get(key);
+        try {
+            if (null == value || value instanceof LongList) {
+                return null == value ? null : ((LongList) value).toLongArray();
+            }
+            if (value instanceof Collection<?> collection) {
+                long[] result = new long[collection.size()];
+                int index = 0;
+                for (Object element : collection) {
+                    result[index++] = toLong(element);
+                }
+                return result;
+            }
+            return JSON_MAPPER.convertValue(value, long[].class);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing value to long array for key " + key, e);
+        }
+    }
+
+    public double[] doubles(String key) {
+        Object value = properties.get(key);
+        try {
+            if (null == value || value instanceof DoubleList) {
+                return null == value ? null : ((DoubleList) value).toDoubleArray();
+            }
+            if (value instanceof Collection<?> collection) {
+                double[] result = new double[collection.size()];
+                int index = 0;
+                for (Object element : collection) {
+                    result[index++] = toDouble(element);
+                }
+                return result;
+            }
+            return JSON_MAPPER.convertValue(value, double[].class);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing value to double array for key " + key, e);
+        }
+    }
+
+    public IntStream intStream(String key) {
+        int[] values = ints(key);
+        return null == values ? IntStream.empty() : Arrays.stream(values);
+    }
+
+    public DoubleStream doubleStream(String key) {
+        double[] values = doubles(key);
+        return null == values ? DoubleStream.empty() : Arrays.stream(values);
+    }
+
     public List<Integer> integers(String key) {
         try {
             return JSON_MAPPER.convertValue(properties.get(key), LIST_TYPE_INTEGER);
@@ -377,7 +712,7 @@ public class JJson implements Json {
 
     public Double decimal(String key) {
         try {
-            return get(key, Double.class);
+            return toDouble(properties.get(key));
         } catch (Exception e) {
             throw new JsonParseException("Error parsing value to double for key " + key, e);
         }
@@ -385,8 +720,9 @@ public class JJson implements Json {
 
     public double decimalOr(String key, double defaultValue) {
         try {
-            if (properties.containsKey(key) && null != properties.get(key)) {
-                return decimal(key);
+            Double value = decimal(key);
+            if (null != value) {
+                return value;
             }
         } catch (Exception e) {
             // return default on parsing error
@@ -408,6 +744,17 @@ public class JJson implements Json {
         return decimal(key);
     }
 
+    public double decimalAsDouble(String key) {
+        Object value = properties.get(key);
+        if (value instanceof Double decimal) {
+            return decimal;
+        }
+        if (null == value) {
+            throw new PropertyRequiredException();
+        }
+        return decimal(key);
+    }
+
     public List<Double> decimals(String key) {
         try {
             return JSON_MAPPER.convertValue(properties.get(key), LIST_TYPE_DOUBLE);
@@ -418,7 +765,7 @@ public class JJson implements Json {
 
     public Boolean bool(String key) {
         try {
-            return get(key, Boolean.class);
+            return toBoolean(properties.get(key));
         } catch (Exception e) {
             throw new JsonParseException("Error parsing value to boolean for key " + key, e);
         }
@@ -426,8 +773,9 @@ public class JJson implements Json {
 
     public boolean boolOr(String key, boolean defaultValue) {
         try {
-            if (properties.containsKey(key) && null != properties.get(key)) {
-                return bool(key);
+            Boolean value = bool(key);
+            if (null != value) {
+                return value;
             }
         } catch (Exception e) {
             // return default on parsing error
@@ -458,7 +806,12 @@ public class JJson implements Json {
     }
 
     public boolean anyTrue(String... keys) {
-        return Arrays.stream(keys).anyMatch(this::bool);
+        for (String key : keys) {
+            if (bool(key)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean anyFalse(String... keys) {
@@ -466,20 +819,30 @@ public class JJson implements Json {
     }
 
     public boolean allTrue(String... keys) {
-        return Arrays.stream(keys).allMatch(this::bool);
+        for (String key : keys) {
+            if (!bool(key)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public boolean allFalse(String... keys) {
-        return Arrays.stream(keys).noneMatch(this::bool);
+        for (String key : keys) {
+            if (bool(key)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Date date(String key, String format) {
-        return parseDate(new SimpleDateFormat(format), string(key));
+        return DateFormatters.parseDate(string(key), format, null);
     }
 
     public Date dateOrNow(String key, String format) {
         if (properties.containsKey(key) && null != string(key)) {
-            return parseDate(new SimpleDateFormat(format), string(key));
+            return DateFormatters.parseDate(string(key), format, null);
         }
         return new Date();
     }
@@ -499,32 +862,50 @@ public class JJson implements Json {
     }
 
     public Date date(String key, String format, String timeZone) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format);
-        dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
-        return parseDate(dateFormat, string(key));
+        return DateFormatters.parseDate(string(key), format, timeZone);
     }
 
     public Date date(String dateKey, String timeKey, String joinString, String format) {
         String dateTime = string(dateKey).concat(joinString).concat(string(timeKey));
-        return parseDate(new SimpleDateFormat(format), dateTime);
+        return DateFormatters.parseDate(dateTime, format, null);
+    }
+
+    public LocalDate localDate(String key) {
+        String value = string(key);
+        return null == value ? null : IsoDates.localDate(value);
+    }
+
+    public LocalDateTime localDateTime(String key) {
+        String value = string(key);
+        return null == value ? null : IsoDates.localDateTime(value);
+    }
+
+    public OffsetDateTime offsetDateTime(String key) {
+        String value = string(key);
+        return null == value ? null : IsoDates.offsetDateTime(value);
+    }
+
+    public Instant instant(String key) {
+        String value = string(key);
+        return null == value ? null : IsoDates.instant(value);
     }
 
     public LocalDate localDate(String key, String format) {
-        return LocalDate.parse(string(key), DateTimeFormatter.ofPattern(format));
+        return LocalDate.parse(string(key), DateFormatters.formatter(format));
     }
 
     public LocalDate localDateOr(String key, String format, LocalDate defaultValue) {
         if (!properties.containsKey(key) || null == properties.get(key)) {
             return defaultValue;
         }
-        return LocalDate.parse(string(key), DateTimeFormatter.ofPattern(format));
+        return LocalDate.parse(string(key), DateFormatters.formatter(format));
     }
 
     public LocalDate localDateOrToday(String key, String format) {
         if (!properties.containsKey(key) || null == properties.get(key)) {
             return LocalDate.now();
         }
-        return LocalDate.parse(string(key), DateTimeFormatter.ofPattern(format));
+        return LocalDate.parse(string(key), DateFormatters.formatter(format));
     }
 
     public LocalDate localDateOrThrow(String key, String format, RuntimeException e) {
@@ -560,7 +941,7 @@ public class JJson implements Json {
     }
 
     public Json array(String key, Consumer<List<Json>> consumer) {
-        consumer.accept(JSON_MAPPER.convertValue(properties.get(key), LIST_TYPE_JSON));
+        consumer.accept(array(key));
         return this;
     }
 
@@ -585,36 +966,109 @@ public class JJson implements Json {
         return this;
     }
 
-    @SuppressWarnings({"unchecked", "parameters"})
+    public Json at(String path) {
+        return at(JsonPath.compile(path));
+    }
+
+    public Json at(JsonPath path) {
+        Object value = path.resolve(properties);
+        return null == value ? null : nested(value);
+    }
+
+    public String stringAt(String path) {
+        return stringAt(JsonPath.compile(path));
+    }
+
+    public String stringAt(JsonPath path) {
+        try {
+            return (String) path.resolve(properties);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing value to string for path " + path, e);
+        }
+    }
+
+    public Integer integerAt(String path) {
+        return integerAt(JsonPath.compile(path));
+    }
+
+    public Integer integerAt(JsonPath path) {
+        try {
+            return toInteger(path.resolve(properties));
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing value to integer for path " + path, e);
+        }
+    }
+
+    public List<Json> arrayAt(String path) {
+        return arrayAt(JsonPath.compile(path));
+    }
+
+    public List<Json> arrayAt(JsonPath path) {
+        return nestedArray(path.resolve(properties));
+    }
+
+    public Stream<Json> query(String expression) {
+        return JsonQuery.compile(expression).select(properties).map(value -> queriedObject(value, expression));
+    }
+
+    public <T> Stream<T> query(String expression, Class<T> type) {
+        return JsonQuery.compile(expression).select(properties).map(value -> queriedValue(value, type, expression));
+    }
+
     public <T> T find(String key, Class<T> type) {
-        if (properties.keySet().stream().anyMatch(k -> k.equals(key))) {
-            return get(key, type);
-        }
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            if (entry.getValue() instanceof Map) {
-                T value = JJson.from(entry.getValue()).orElse(JJson.create()).find(key, type);
-                if (null != value) {
-                    return value;
-                }
-            } else if (entry.getValue() instanceof List && !((List<?>) entry.getValue()).isEmpty() && ((List<?>) entry.getValue()).getFirst() instanceof Map) {
-                T value = ((List<Map<String, Object>>) entry.getValue())
-                        .stream()
-                        .map(map -> JJson.create().put(map).find(key, type))
-                        .filter(Objects::nonNull)
-                        .findFirst()
-                        .orElse(null);
-                if (null != value) {
-                    return value;
-                }
-            }
+        return convert(JsonTraversal.find(properties, key), type);
+    }
+
+    public <T> Stream<T> findAll(String key, Class<T> type) {
+        return JsonTraversal.objects(properties)
+                .filter(map -> map.containsKey(key))
+                .map(map -> map.get(key))
+                .filter(Objects::nonNull)
+                .map(value -> convert(value, type));
+    }
+
+    public JsonKeyIndex keyIndex() {
+        return new JJsonKeyIndex(properties);
+    }
+
+    public void writeTo(OutputStream outputStream) {
+        try {
+            JSON_WRITER.writeValue(outputStream, this);
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public void writeTo(Writer writer) {
+        try {
+            JSON_WRITER.writeValue(writer, this);
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        int position = buffer.position();
+        try {
+            JSON_WRITER.writeValue(new ByteBufferOutputStream(buffer), this);
+        } catch (JacksonException e) {
+            buffer.position(position);
+            throw new JsonParseException(e);
+        }
+    }
+
+    public byte[] toBytes() {
+        try {
+            return JSON_WRITER.writeValueAsBytes(this);
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
         }
-        return null;
     }
 
     @Override
     public String toString() {
         try {
-            return objectWriter.writeValueAsString(this);
+            return JSON_WRITER.writeValueAsString(this);
         } catch (JacksonException e) {
             throw new JsonParseException(e);
         }
@@ -625,10 +1079,9 @@ public class JJson implements Json {
         if (this == other) {
             return true;
         }
-        if (other == null || getClass() != other.getClass()) {
+        if (!(other instanceof JJson json)) {
             return false;
         }
-        JJson json = (JJson) other;
         return Objects.equals(properties, json.properties);
     }
 
@@ -637,11 +1090,165 @@ public class JJson implements Json {
         return Objects.hash(properties);
     }
 
-    private Date parseDate(SimpleDateFormat dateFormat, String dateString) {
+    private static Json parseMessage(byte[] jsonData, int index) {
         try {
-            return dateFormat.parse(dateString);
-        } catch (ParseException e) {
-            throw new JsonParseException("Error parsing value to date " + dateString, e);
+            return JSON_READER.readValue(jsonData);
+        } catch (Exception e) {
+            throw new JsonParseException("Error parsing JSON message " + index + " of batch ", e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private static void appendConcurrently(ConcurrentMap<String, Object> concurrent, String key, Collection<?> elements) {
+        concurrent.compute(key, (k, existing) -> {
+            List<Object> values;
+            if (existing instanceof ConcurrentAppendableList<?> list) {
+                values = (List<Object>) list;
+            } else if (existing instanceof Collection<?> collection) {
+                values = new ConcurrentAppendableList<>(collection);
+            } else {
+                values = new ConcurrentAppendableList<>(null == existing ? List.of() : List.of(existing));
+            }
+            values.addAll(elements);
+            return values;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> appendable(String key, JavaType type) {
+        Object existing = properties.get(key);
+        if (existing instanceof AppendableList<?> list) {
+            return (List<Object>) list;
+        }
+        AppendableList<Object> list;
+        if (null == existing) {
+            list = new AppendableList<>();
+        } else if (null != type) {
+            list = new AppendableList<>(JSON_MAPPER.convertValue(existing, type));
+        } else {
+            list = new AppendableList<>(existing instanceof Collection<?> collection ? collection : List.of(existing));
+        }
+        properties.put(key, list);
+        return list;
+    }
+
+    private static void copyProperties(Map<String, ?> source, Map<String, Object> target) {
+        for (Map.Entry<String, ?> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            boolean appendable = value instanceof AppendableList<?> || value instanceof ConcurrentAppendableList<?>;
+            target.put(entry.getKey(), appendable ? new ArrayList<>((List<?>) value) : value);
+        }
+    }
+
+    private static PersistentMap persistentMap(Map<?, ?> map) {
+        if (map instanceof PersistentMap persistent) {
+            return persistent;
+        }
+        PersistentMap persistent = PersistentMap.EMPTY;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            persistent = persistent.with((String) entry.getKey(), persistentValue(entry.getValue()));
+        }
+        return persistent;
+    }
+
+    private static Object persistentValue(Object value) {
+        if (value instanceof Json json) {
+            value = json.asMap();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return persistentMap(map);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> values = new ArrayList<>(list.size());
+            for (Object element : list) {
+                values.add(persistentValue(element));
+            }
+            return Collections.unmodifiableList(values);
+        }
+        return value;
+    }
+
+    private static Json queriedObject(Object value, String expression) {
+        if (!(value instanceof Map<?, ?>) && !(value instanceof Json)) {
+            throw new JsonParseException("JSON path query " + expression + " matched a non-object value, use query with a value type", null);
+        }
+        return nested(value);
+    }
+
+    private static <T> T queriedValue(Object value, Class<T> type, String expression) {
+        try {
+            return convert(value, type);
+        } catch (JacksonException e) {
+            throw new JsonParseException("Error converting result of JSON path query " + expression, e);
+        }
+    }
+
+    static Json nested(Object value) {
+        return nested(value, OBJECT_ACCESS);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Json nested(Object value, ObjectAccess objectAccess) {
+        if (objectAccess == ObjectAccess.VIEW) {
+            if (value instanceof Json json) {
+                return json;
+            }
+            if (value instanceof Map<?, ?> map) {
+                return new JJson((Map<String, Object>) map);
+            }
+        }
+        return JSON_MAPPER.convertValue(value, JSON_TYPE);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T convert(Object value, Class<T> type) {
+        if (isScalar(value) && type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (type == Json.class) {
+            return (T) nested(value);
+        }
+        return JSON_MAPPER.convertValue(value, type);
+    }
+
+    static Integer toInteger(Object value) {
+        if (null == value || value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        return JSON_MAPPER.convertValue(value, Integer.class);
+    }
+
+    static Long toLong(Object value) {
+        if (null == value || value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        return JSON_MAPPER.convertValue(value, Long.class);
+    }
+
+    static Double toDouble(Object value) {
+        if (null == value || value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).doubleValue();
+        }
+        return JSON_MAPPER.convertValue(value, Double.class);
+    }
+
+    static Boolean toBoolean(Object value) {
+        if (null == value || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return JSON_MAPPER.convertValue(value, Boolean.class);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
 }
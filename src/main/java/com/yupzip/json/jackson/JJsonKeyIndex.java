@@ -0,0 +1,56 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.JsonKeyIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+final class JJsonKeyIndex implements JsonKeyIndex {
+
+    private final Map<?, ?> root;
+    private final Map<String, List<Map<?, ?>>> locations = new HashMap<>();
+
+    JJsonKeyIndex(Map<?, ?> root) {
+        this.root = root;
+        JsonTraversal.objects(root).forEach(map -> {
+            for (Object key : map.keySet()) {
+                locations.computeIfAbsent((String) key, k -> new ArrayList<>(1)).add(map);
+            }
+        });
+    }
+
+    public boolean contains(String key) {
+        return locations.containsKey(key);
+    }
+
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(locations.keySet());
+    }
+
+    public <T> T find(String key, Class<T> type) {
+        List<Map<?, ?>> maps = locations.get(key);
+        if (null == maps) {
+            return null;
+        }
+        for (Map<?, ?> map : maps) {
+            Object value = map.get(key);
+            if (null != value || map == root) {
+                return JJson.convert(value, type);
+            }
+        }
+        return null;
+    }
+
+    public <T> Stream<T> findAll(String key, Class<T> type) {
+        return locations.getOrDefault(key, List.of()).stream()
+                .map(map -> map.get(key))
+                .filter(Objects::nonNull)
+                .map(value -> JJson.convert(value, type));
+    }
+}
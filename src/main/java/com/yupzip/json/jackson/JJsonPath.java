@@ -0,0 +1,111 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonPath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.yupzip.json.JsonConfiguration.PATH_CACHE_SIZE;
+
+public final class JJsonPath implements JsonPath {
+
+    private static final BoundedCache<String, JJsonPath> CACHE = new BoundedCache<>(PATH_CACHE_SIZE);
+
+    private final String expression;
+    private final String[] names;
+    private final int[] indexes;
+
+    private JJsonPath(String expression) {
+        this.expression = expression;
+        List<String> segments = expression.startsWith("/") ? pointerSegments(expression) : dottedSegments(expression);
+        this.names = segments.toArray(String[]::new);
+        this.indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indexes[i] = index(names[i]);
+        }
+    }
+
+    public static JsonPath compile(String expression) {
+        return CACHE.get(expression, JJsonPath::new);
+    }
+
+    public Object resolve(Object root) {
+        Object node = root;
+        for (int i = 0; i < names.length && null != node; i++) {
+            if (node instanceof Json json) {
+                node = json.asMap();
+            }
+            if (node instanceof Map<?, ?> map) {
+                node = map.get(names[i]);
+            } else if (node instanceof List<?> list && indexes[i] >= 0 && indexes[i] < list.size()) {
+                node = list.get(indexes[i]);
+            } else {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static List<String> pointerSegments(String pointer) {
+        List<String> segments = new ArrayList<>();
+        int start = 1;
+        while (start <= pointer.length()) {
+            int end = pointer.indexOf('/', start);
+            if (end < 0) {
+                end = pointer.length();
+            }
+            segments.add(pointer.substring(start, end).replace("~1", "/").replace("~0", "~"));
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    private static List<String> dottedSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.' || c == '[') {
+                if (!segment.isEmpty()) {
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                }
+                if (c == '[') {
+                    int close = path.indexOf(']', i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unterminated index in JSON path " + path);
+                    }
+                    segments.add(path.substring(i + 1, close));
+                    i = close;
+                }
+            } else {
+                segment.append(c);
+            }
+            i++;
+        }
+        if (!segment.isEmpty()) {
+            segments.add(segment.toString());
+        }
+        return segments;
+    }
+
+    private static int index(String segment) {
+        if (segment.isEmpty() || segment.length() > 9 || (segment.length() > 1 && segment.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(segment);
+    }
+}
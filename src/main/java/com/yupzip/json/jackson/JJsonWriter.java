@@ -0,0 +1,147 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.JsonParseException;
+import com.yupzip.json.JsonWriter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+import static com.yupzip.json.jackson.JacksonConfiguration.JSON_WRITER;
+
+public final class JJsonWriter implements JsonWriter {
+
+    private final JsonGenerator generator;
+
+    private JJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+        generator.writeStartObject();
+    }
+
+    public static JsonWriter create(OutputStream outputStream) {
+        try {
+            return new JJsonWriter(JSON_WRITER.createGenerator(outputStream));
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public static JsonWriter create(Writer writer) {
+        try {
+            return new JJsonWriter(JSON_WRITER.createGenerator(writer));
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    public JsonWriter put(String key, Object value) {
+        name(key);
+        value(value);
+        return this;
+    }
+
+    public JsonWriter add(String key, Object value) {
+        if (null != value) {
+            put(key, value);
+        }
+        return this;
+    }
+
+    public JsonWriter append(Object value) {
+        requireArray("append");
+        value(value);
+        return this;
+    }
+
+    public JsonWriter beginObject(String key) {
+        name(key);
+        write(generator::writeStartObject);
+        return this;
+    }
+
+    public JsonWriter beginArray(String key) {
+        name(key);
+        write(generator::writeStartArray);
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        requireArray("beginObject");
+        write(generator::writeStartObject);
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        requireArray("beginArray");
+        write(generator::writeStartArray);
+        return this;
+    }
+
+    public JsonWriter end() {
+        if (generator.streamWriteContext().inObject()) {
+            write(generator::writeEndObject);
+        } else if (generator.streamWriteContext().inArray()) {
+            write(generator::writeEndArray);
+        } else {
+            throw new IllegalStateException("No open object or array to end");
+        }
+        return this;
+    }
+
+    public JsonWriter flush() {
+        write(generator::flush);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (generator.isClosed()) {
+            return;
+        }
+        try {
+            while (!generator.streamWriteContext().inRoot()) {
+                end();
+            }
+        } finally {
+            write(generator::close);
+        }
+    }
+
+    private void name(String key) {
+        if (!generator.streamWriteContext().inObject()) {
+            throw new IllegalStateException("Property " + key + " can only be written inside an object, use append for array elements");
+        }
+        write(() -> generator.writeName(key));
+    }
+
+    private void requireArray(String operation) {
+        if (!generator.streamWriteContext().inArray()) {
+            throw new IllegalStateException(operation + " without a key is only allowed inside an array");
+        }
+    }
+
+    private void value(Object value) {
+        write(() -> {
+            switch (value) {
+                case null -> generator.writeNull();
+                case String string -> generator.writeString(string);
+                case Integer integer -> generator.writeNumber(integer);
+                case Long number -> generator.writeNumber(number);
+                case Double decimal -> generator.writeNumber(decimal);
+                case BigDecimal decimal -> generator.writeNumber(decimal);
+                case Boolean bool -> generator.writeBoolean(bool);
+                default -> generator.writePOJO(value);
+            }
+        });
+    }
+
+    private static void write(Runnable operation) {
+        try {
+            operation.run();
+        } catch (JacksonException e) {
+            throw new JsonParseException(e);
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.yupzip.json.jackson;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.yupzip.json.JsonConfiguration;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.PropertyNamingStrategy;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.databind.type.CollectionType;
 
 import java.io.IOException;
@@ -33,10 +36,12 @@ public class JacksonConfiguration {
     static final JsonMapper JSON_MAPPER;
     static final JavaType JSON_TYPE;
     static final ObjectReader JSON_READER;
+    static final ObjectWriter JSON_WRITER;
     static final CollectionType LIST_TYPE_JSON;
     static final CollectionType LIST_TYPE_STRING;
     static final CollectionType LIST_TYPE_INTEGER;
     static final CollectionType LIST_TYPE_DOUBLE;
+    static final StringPool STRING_POOL;
 
     static final Map<String, PropertyNamingStrategy> NAMING_STRATEGY_MAP;
 
@@ -49,9 +54,13 @@ public class JacksonConfiguration {
             NAMING_STRATEGY_MAP.put("UPPER_CAMEL_CASE", PropertyNamingStrategies.UPPER_CAMEL_CASE);
             NAMING_STRATEGY_MAP.put("LOWER_CASE", PropertyNamingStrategies.LOWER_CASE);
             Properties props = loadProperties();
-            JSON_MAPPER = getJsonMapper(props);
+            STRING_POOL = JsonConfiguration.STRING_POOL_ENABLED
+                    ? new StringPool(JsonConfiguration.STRING_POOL_SIZE, JsonConfiguration.STRING_POOL_MAX_LENGTH)
+                    : StringPool.disabled();
+            JSON_MAPPER = getJsonMapper(props, STRING_POOL);
             JSON_TYPE = JSON_MAPPER.reader().typeFactory().constructType(JJson.class);
             JSON_READER = JSON_MAPPER.reader().forType(JSON_TYPE);
+            JSON_WRITER = JSON_MAPPER.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
             LIST_TYPE_JSON = JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, JJson.class);
             LIST_TYPE_STRING = JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, String.class);
             LIST_TYPE_INTEGER = JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, Integer.class);
@@ -60,16 +69,18 @@ public class JacksonConfiguration {
             JSON_MAPPER = null;
             JSON_TYPE = null;
             JSON_READER = null;
+            JSON_WRITER = null;
             LIST_TYPE_JSON = null;
             LIST_TYPE_STRING = null;
             LIST_TYPE_INTEGER = null;
             LIST_TYPE_DOUBLE = null;
+            STRING_POOL = StringPool.disabled();
             NAMING_STRATEGY_MAP = null;
 
         }
     }
 
-    private static JsonMapper getJsonMapper(Properties props) {
+    static JsonMapper getJsonMapper(Properties props, StringPool stringPool) {
         JsonMapper.Builder jsonMapperBuilder = JsonMapper.builder()
                 .configure(FAIL_ON_EMPTY_BEANS, parseBoolean(props.getProperty("jackson.serialization.fail-on-empty-beans", "false")))
                 .configure(WRITE_DATES_AS_TIMESTAMPS, parseBoolean(props.getProperty("jackson.serialization.write-dates-as-timestamps", "false")))
@@ -79,6 +90,10 @@ public class JacksonConfiguration {
                         JsonInclude.Include.valueOf(props.getProperty("jackson.default-property-inclusion", "ALWAYS"))
                 ));
 
+        if (stringPool.isEnabled()) {
+            jsonMapperBuilder.addModule(new SimpleModule("yupzip-string-pool")
+                    .addDeserializer(String.class, new InterningStringDeserializer(stringPool)));
+        }
         setPropertyNamingStrategy(jsonMapperBuilder, props);
         enableFeatures(jsonMapperBuilder, props);
         disableFeatures(jsonMapperBuilder, props);
@@ -0,0 +1,304 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.JsonParseException;
+import tools.jackson.core.JacksonException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.yupzip.json.JsonConfiguration.PRIMITIVE_ARRAYS;
+import static com.yupzip.json.jackson.JacksonConfiguration.JSON_MAPPER;
+import static com.yupzip.json.jackson.JacksonConfiguration.STRING_POOL;
+
+final class JsonIndex {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+
+    private final byte[] data;
+    private int[] positions;
+    private int[] partners;
+    private int count;
+
+    private JsonIndex(byte[] data) {
+        this.data = data;
+        this.positions = new int[Math.max(16, data.length / 8)];
+        this.partners = new int[positions.length];
+    }
+
+    static JsonIndex build(byte[] data) {
+        JsonIndex index = new JsonIndex(data);
+        index.scan();
+        return index;
+    }
+
+    int root() {
+        if (count == 0 || structural(0) != '{') {
+            throw new JsonParseException("Error parsing JSON lazily, root value is not an object", null);
+        }
+        if (partners[0] != count - 1) {
+            throw malformed(partners[0] + 1);
+        }
+        return 0;
+    }
+
+    byte structural(int token) {
+        return data[positions[token]];
+    }
+
+    void fields(int open, Map<String, Object> target) {
+        expect(open, '{');
+        int token = open + 1;
+        if (structural(token) == '}') {
+            return;
+        }
+        while (true) {
+            expect(token, '"');
+            String key = string(token);
+            expect(token + 2, ':');
+            Slot slot = slot(token + 2);
+            target.put(key, slot);
+            int next = slot.next();
+            if (next < count && structural(next) == '}') {
+                return;
+            }
+            expect(next, ',');
+            token = next + 1;
+        }
+    }
+
+    List<?> elements(int open) {
+        expect(open, '[');
+        List<Object> elements = new ArrayList<>();
+        if (data[skipWhitespace(positions[open] + 1)] == ']') {
+            return elements;
+        }
+        int separator = open;
+        while (true) {
+            Slot slot = slot(separator);
+            elements.add(decode(slot));
+            int next = slot.next();
+            if (next < count && structural(next) == ']') {
+                break;
+            }
+            expect(next, ',');
+            separator = next;
+        }
+        if (PRIMITIVE_ARRAYS) {
+            List<?> primitive = PrimitiveLists.primitive(elements);
+            if (null != primitive) {
+                return primitive;
+            }
+        }
+        return elements;
+    }
+
+    Object decode(Slot slot) {
+        if (slot.token() < 0) {
+            return scalar(slot.start(), slot.end());
+        }
+        return switch (structural(slot.token())) {
+            case '{' -> new LazyMap(this, slot.token());
+            case '[' -> elements(slot.token());
+            default -> string(slot.token());
+        };
+    }
+
+    private Slot slot(int separator) {
+        int start = skipWhitespace(positions[separator] + 1);
+        if (start >= data.length) {
+            throw malformed(separator);
+        }
+        byte first = data[start];
+        int token = separator + 1;
+        if (first == '{' || first == '[') {
+            expect(token, first);
+            int close = partners[token];
+            return new Slot(start, positions[close] + 1, token, close + 1);
+        }
+        if (first == '"') {
+            expect(token, '"');
+            return new Slot(start, positions[token + 1] + 1, token, token + 2);
+        }
+        if (token >= count) {
+            throw malformed(separator);
+        }
+        int end = positions[token];
+        while (end > start && isWhitespace(data[end - 1])) {
+            end--;
+        }
+        return new Slot(start, end, -1, token);
+    }
+
+    private String string(int open) {
+        int start = positions[open] + 1;
+        int end = positions[open + 1];
+        for (int i = start; i < end; i++) {
+            if (data[i] == '\\') {
+                try {
+                    return JSON_MAPPER.readValue(data, start - 1, end - start + 2, String.class);
+                } catch (JacksonException e) {
+                    throw new JsonParseException("Error decoding JSON string at offset " + start, e);
+                }
+            }
+        }
+        return STRING_POOL.intern(new String(data, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    private Object scalar(int start, int end) {
+        int length = end - start;
+        if (matches(start, length, "true")) {
+            return Boolean.TRUE;
+        }
+        if (matches(start, length, "false")) {
+            return Boolean.FALSE;
+        }
+        if (matches(start, length, "null")) {
+            return null;
+        }
+        int digitsStart = data[start] == '-' ? start + 1 : start;
+        int digits = end - digitsStart;
+        if (digits > 0 && digits <= 18 && (digits == 1 || data[digitsStart] != '0')) {
+            long value = 0;
+            int i = digitsStart;
+            while (i < end && data[i] >= '0' && data[i] <= '9') {
+                value = value * 10 + (data[i++] - '0');
+            }
+            if (i == end) {
+                value = digitsStart == start ? value : -value;
+                return value == (int) value ? Integer.valueOf((int) value) : Long.valueOf(value);
+            }
+        }
+        try {
+            Object value = JSON_MAPPER.readValue(data, start, length, Object.class);
+            if (value instanceof Map || value instanceof List || value instanceof String) {
+                throw new JsonParseException("Error decoding JSON scalar at offset " + start, null);
+            }
+            return value;
+        } catch (JacksonException e) {
+            throw new JsonParseException("Error decoding JSON scalar at offset " + start, e);
+        }
+    }
+
+    private boolean matches(int start, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (data[start + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void scan() {
+        int[] stack = new int[32];
+        int depth = 0;
+        int length = data.length;
+        int i = 0;
+        while (i < length) {
+            byte b = data[i];
+            switch (b) {
+                case '"' -> {
+                    int open = add(i);
+                    i = stringEnd(i + 1);
+                    partners[open] = add(i);
+                }
+                case '{', '[' -> {
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, 2 * depth);
+                    }
+                    stack[depth++] = add(i);
+                }
+                case '}', ']' -> {
+                    int close = add(i);
+                    if (depth == 0 || data[positions[stack[depth - 1]]] != (b == '}' ? '{' : '[')) {
+                        throw new JsonParseException("Error indexing JSON, unbalanced '" + (char) b + "' at offset " + i, null, -1, i);
+                    }
+                    partners[stack[--depth]] = close;
+                }
+                case ':', ',' -> add(i);
+                default -> {
+                    // whitespace and scalar bytes are not structural
+                }
+            }
+            i++;
+        }
+        if (depth != 0) {
+            throw new JsonParseException("Error indexing JSON, unexpected end of input", null, -1, length);
+        }
+    }
+
+    private int stringEnd(int from) {
+        int length = data.length;
+        int i = from;
+        while (i + Long.BYTES <= length) {
+            long word = (long) LONG_VIEW.get(data, i);
+            long mask = matchMask(word ^ QUOTES) | matchMask(word ^ BACKSLASHES);
+            if (mask == 0) {
+                i += Long.BYTES;
+                continue;
+            }
+            i += Long.numberOfTrailingZeros(mask) >>> 3;
+            if (data[i] == '"') {
+                return i;
+            }
+            i += 2;
+        }
+        while (i < length) {
+            byte b = data[i];
+            if (b == '"') {
+                return i;
+            }
+            i += b == '\\' ? 2 : 1;
+        }
+        throw new JsonParseException("Error indexing JSON, unterminated string at offset " + (from - 1), null, -1, from - 1);
+    }
+
+    private static long matchMask(long word) {
+        return (word - ONES) & ~word & HIGHS;
+    }
+
+    private int add(int position) {
+        if (count == positions.length) {
+            positions = Arrays.copyOf(positions, 2 * count);
+            partners = Arrays.copyOf(partners, 2 * count);
+        }
+        positions[count] = position;
+        return count++;
+    }
+
+    private int skipWhitespace(int position) {
+        while (position < data.length && isWhitespace(data[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private void expect(int token, int expected) {
+        if (token >= count || structural(token) != expected) {
+            throw malformed(token);
+        }
+    }
+
+    private JsonParseException malformed(int token) {
+        int offset = token < count ? positions[token] : data.length;
+        return new JsonParseException("Error parsing JSON, malformed content at offset " + offset, null, -1, offset);
+    }
+
+    record Slot(int start, int end, int token, int next) {}
+}
@@ -0,0 +1,105 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonParseException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.yupzip.json.jackson.JacksonConfiguration.JSON_READER;
+
+final class JsonLines implements Iterator<Json>, AutoCloseable {
+
+    private final MappingIterator<Json> values;
+    private final InputStream inputStream;
+
+    private JsonLines(MappingIterator<Json> values, InputStream inputStream) {
+        this.values = values;
+        this.inputStream = inputStream;
+    }
+
+    static Stream<Json> stream(InputStream inputStream) {
+        JsonLines lines = open(inputStream);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(lines::close);
+    }
+
+    static Stream<Json> stream(Path path) {
+        try {
+            return stream(Files.newInputStream(path));
+        } catch (IOException e) {
+            throw new JsonParseException("Error reading JSON lines file " + path, e);
+        }
+    }
+
+    static JsonLines open(InputStream inputStream) {
+        try {
+            return new JsonLines(JSON_READER.readValues(inputStream), inputStream);
+        } catch (JacksonException e) {
+            closeQuietly(inputStream);
+            throw error(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return values.hasNextValue();
+        } catch (JacksonException e) {
+            throw error(e);
+        }
+    }
+
+    @Override
+    public Json next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return values.nextValue();
+        } catch (JacksonException e) {
+            throw error(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            values.close();
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static JsonParseException error(JacksonException e) {
+        var location = e.getLocation();
+        if (null == location) {
+            return new JsonParseException("Error parsing JSON lines ", e);
+        }
+        long offset = location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+        return new JsonParseException("Error parsing JSON lines at line " + location.getLineNr() + ", offset " + offset, e, location.getLineNr(), offset);
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            // already failing, keep the original error
+        }
+    }
+}
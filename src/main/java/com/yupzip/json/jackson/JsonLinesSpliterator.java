@@ -0,0 +1,124 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonParseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class JsonLinesSpliterator implements Spliterator<Json> {
+
+    private static final long MIN_SPLIT_SIZE = 1 << 20;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private long start;
+    private JsonLines lines;
+    private boolean done;
+
+    private JsonLinesSpliterator(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+    }
+
+    static Stream<Json> stream(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            return StreamSupport.stream(new JsonLinesSpliterator(channel, 0, channel.size()), true)
+                    .onClose(() -> {
+                        try {
+                            channel.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new JsonParseException("Error reading JSON lines file " + path, e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Json> action) {
+        if (done) {
+            return false;
+        }
+        if (null == lines) {
+            lines = JsonLines.open(new FileRangeInputStream(channel, start, end));
+        }
+        try {
+            if (lines.hasNext()) {
+                action.accept(lines.next());
+                return true;
+            }
+        } catch (JsonParseException e) {
+            throw relocate(e);
+        }
+        done = true;
+        lines.close();
+        return false;
+    }
+
+    @Override
+    public Spliterator<Json> trySplit() {
+        if (null != lines || end - start < 2 * MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long boundary = nextLineStart(start + (end - start) / 2);
+        if (boundary <= start || boundary >= end) {
+            return null;
+        }
+        JsonLinesSpliterator prefix = new JsonLinesSpliterator(channel, start, boundary);
+        start = boundary;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - start;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private long nextLineStart(long position) {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        try {
+            while (position < end) {
+                buffer.clear();
+                int count = channel.read(buffer, position);
+                if (count <= 0) {
+                    return end;
+                }
+                for (int i = 0; i < count; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return position + i + 1;
+                    }
+                }
+                position += count;
+            }
+            return end;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonParseException relocate(JsonParseException e) {
+        if (e.getOffset() < 0) {
+            return e;
+        }
+        long offset = start + e.getOffset();
+        return new JsonParseException("Error parsing JSON lines at offset " + offset, e.getCause(), -1, offset);
+    }
+}
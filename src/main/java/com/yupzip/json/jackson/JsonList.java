@@ -0,0 +1,71 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+final class JsonList extends AbstractList<Json> implements RandomAccess {
+
+    private final List<?> elements;
+    private final Json[] slots;
+    private List<Json> values;
+
+    JsonList(List<?> elements) {
+        this.elements = elements;
+        this.slots = new Json[elements.size()];
+    }
+
+    @Override
+    public Json get(int index) {
+        if (null != values) {
+            return values.get(index);
+        }
+        Json json = slots[index];
+        if (null == json) {
+            Object element = elements.get(index);
+            if (null == element) {
+                return null;
+            }
+            json = JJson.nested(element);
+            slots[index] = json;
+        }
+        return json;
+    }
+
+    @Override
+    public int size() {
+        return null != values ? values.size() : slots.length;
+    }
+
+    @Override
+    public Json set(int index, Json element) {
+        return values().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Json element) {
+        values().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public Json remove(int index) {
+        Json removed = values().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    private List<Json> values() {
+        if (null == values) {
+            List<Json> converted = new ArrayList<>(slots.length + 1);
+            for (int i = 0; i < slots.length; i++) {
+                converted.add(get(i));
+            }
+            values = converted;
+        }
+        return values;
+    }
+}
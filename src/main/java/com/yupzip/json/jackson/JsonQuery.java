@@ -0,0 +1,418 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.JsonParseException;
+import com.yupzip.json.JsonPath;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.yupzip.json.JsonConfiguration.PATH_CACHE_SIZE;
+import static com.yupzip.json.jackson.JacksonConfiguration.JSON_MAPPER;
+
+final class JsonQuery {
+
+    private static final BoundedCache<String, JsonQuery> CACHE = new BoundedCache<>(PATH_CACHE_SIZE);
+
+    private final String expression;
+    private final List<Step> steps = new ArrayList<>();
+
+    private JsonQuery(String expression) {
+        this.expression = expression;
+        new Compiler(expression).compile(steps);
+    }
+
+    static JsonQuery compile(String expression) {
+        return CACHE.get(expression, JsonQuery::new);
+    }
+
+    Stream<Object> select(Object root) {
+        return select(Stream.of(root), 0);
+    }
+
+    Stream<Object> select(InputStream inputStream) {
+        JsonParser parser;
+        try {
+            parser = JSON_MAPPER.createParser(inputStream);
+        } catch (JacksonException e) {
+            throw new JsonParseException("Error querying JSON stream", e);
+        }
+        try {
+            parser.nextToken();
+            int step = 0;
+            while (step < steps.size() && steps.get(step) instanceof Child child && parser.currentToken() == JsonToken.START_OBJECT) {
+                if (!seekProperty(parser, child.name())) {
+                    parser.close();
+                    return Stream.empty();
+                }
+                step++;
+            }
+            if (step < steps.size() && isContainer(parser.currentToken())
+                    && (steps.get(step) instanceof Wildcard || steps.get(step) instanceof Filter)) {
+                Stream<Object> children = StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        new ElementIterator(parser), Spliterator.ORDERED | Spliterator.NONNULL), false);
+                if (steps.get(step) instanceof Filter filter) {
+                    children = children.filter(filter.predicate());
+                }
+                return select(children, step + 1).onClose(parser::close);
+            }
+            Object value = JSON_MAPPER.readValue(parser, Object.class);
+            parser.close();
+            return select(Stream.ofNullable(value), step);
+        } catch (JacksonException e) {
+            parser.close();
+            throw new JsonParseException("Error querying JSON stream", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private Stream<Object> select(Stream<Object> nodes, int from) {
+        for (int i = from; i < steps.size(); i++) {
+            nodes = nodes.flatMap(steps.get(i)::apply);
+        }
+        return nodes;
+    }
+
+    private static boolean seekProperty(JsonParser parser, String name) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String property = parser.currentName();
+            parser.nextToken();
+            if (name.equals(property)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean isContainer(JsonToken token) {
+        return token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT;
+    }
+
+    private static Object unwrap(Object node) {
+        return node instanceof Json json ? json.asMap() : node;
+    }
+
+    private static Stream<Object> children(Object node) {
+        Object value = unwrap(node);
+        Collection<?> children;
+        if (value instanceof Map<?, ?> map) {
+            children = map.values();
+        } else if (value instanceof List<?> list) {
+            children = list;
+        } else {
+            return Stream.empty();
+        }
+        return children.stream().filter(Objects::nonNull).map(Object.class::cast);
+    }
+
+    private interface Step {
+        Stream<Object> apply(Object node);
+    }
+
+    private record Child(String name) implements Step {
+
+        @Override
+        public Stream<Object> apply(Object node) {
+            return unwrap(node) instanceof Map<?, ?> map ? Stream.ofNullable(map.get(name)) : Stream.empty();
+        }
+    }
+
+    private record Index(int index) implements Step {
+
+        @Override
+        public Stream<Object> apply(Object node) {
+            if (unwrap(node) instanceof List<?> list) {
+                int position = index < 0 ? list.size() + index : index;
+                if (position >= 0 && position < list.size()) {
+                    return Stream.ofNullable(list.get(position));
+                }
+            }
+            return Stream.empty();
+        }
+    }
+
+    private record Wildcard() implements Step {
+
+        @Override
+        public Stream<Object> apply(Object node) {
+            return children(node);
+        }
+    }
+
+    private record Descendant(Step step) implements Step {
+
+        @Override
+        public Stream<Object> apply(Object node) {
+            return JsonTraversal.containers(node).flatMap(step::apply);
+        }
+    }
+
+    private record Filter(Predicate<Object> predicate) implements Step {
+
+        @Override
+        public Stream<Object> apply(Object node) {
+            return children(node).filter(predicate);
+        }
+    }
+
+    private static final class ElementIterator implements Iterator<Object> {
+
+        private final JsonParser parser;
+        private Object next;
+        private boolean done;
+
+        private ElementIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == next && !done) {
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.PROPERTY_NAME) {
+                        token = parser.nextToken();
+                    }
+                    if (null == token || token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                        done = true;
+                    } else {
+                        next = JSON_MAPPER.readValue(parser, Object.class);
+                    }
+                } catch (JacksonException e) {
+                    throw new JsonParseException("Error querying JSON stream", e);
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object value = next;
+            next = null;
+            return value;
+        }
+    }
+
+    private static final class Compiler {
+
+        private final String expression;
+        private int position;
+
+        private Compiler(String expression) {
+            this.expression = expression;
+        }
+
+        private void compile(List<Step> steps) {
+            if (expression.startsWith("$")) {
+                position = 1;
+            } else if (!expression.isEmpty() && expression.charAt(0) != '.' && expression.charAt(0) != '[') {
+                steps.add(new Child(name()));
+            }
+            while (position < expression.length()) {
+                if (expression.startsWith("..", position)) {
+                    position += 2;
+                    steps.add(new Descendant(peek() == '[' ? bracket() : dotted()));
+                } else if (peek() == '.') {
+                    position++;
+                    steps.add(dotted());
+                } else if (peek() == '[') {
+                    steps.add(bracket());
+                } else {
+                    throw invalid("unexpected '" + peek() + "'");
+                }
+            }
+        }
+
+        private Step dotted() {
+            if (peek() == '*') {
+                position++;
+                return new Wildcard();
+            }
+            String name = name();
+            if (name.isEmpty()) {
+                throw invalid("missing property name");
+            }
+            return new Child(name);
+        }
+
+        private Step bracket() {
+            position++;
+            Step step;
+            char c = peek();
+            if (c == '*') {
+                position++;
+                step = new Wildcard();
+            } else if (c == '\'' || c == '"') {
+                step = new Child(quoted());
+            } else if (c == '?') {
+                step = new Filter(filter());
+            } else {
+                int end = expression.indexOf(']', position);
+                if (end < 0) {
+                    throw invalid("unterminated bracket");
+                }
+                try {
+                    step = new Index(Integer.parseInt(expression.substring(position, end).trim()));
+                } catch (NumberFormatException e) {
+                    throw invalid("invalid index");
+                }
+                position = end;
+            }
+            if (peek() != ']') {
+                throw invalid("expected ']'");
+            }
+            position++;
+            return step;
+        }
+
+        private Predicate<Object> filter() {
+            position++;
+            if (peek() != '(') {
+                throw invalid("expected '(' after '?'");
+            }
+            int start = ++position;
+            char quote = 0;
+            while (position < expression.length()) {
+                char c = expression.charAt(position);
+                if (quote != 0) {
+                    quote = c == quote ? 0 : quote;
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == ')' && expression.startsWith("]", position + 1)) {
+                    break;
+                }
+                position++;
+            }
+            if (position >= expression.length()) {
+                throw invalid("unterminated filter");
+            }
+            String condition = expression.substring(start, position++).trim();
+            return predicate(condition);
+        }
+
+        private Predicate<Object> predicate(String condition) {
+            if (!condition.startsWith("@")) {
+                throw invalid("filter must start with '@'");
+            }
+            int operator = -1;
+            String symbol = null;
+            char quote = 0;
+            for (int i = 1; i < condition.length() && null == symbol; i++) {
+                char c = condition.charAt(i);
+                if (quote != 0) {
+                    quote = c == quote ? 0 : quote;
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '=' || c == '!' || c == '<' || c == '>') {
+                    operator = i;
+                    symbol = condition.startsWith("=", i + 1) ? condition.substring(i, i + 2) : String.valueOf(c);
+                }
+            }
+            JsonPath path = JsonPath.compile(condition.substring(1, operator < 0 ? condition.length() : operator).trim());
+            if (null == symbol) {
+                return node -> null != path.resolve(node);
+            }
+            Object literal = literal(condition.substring(operator + symbol.length()).trim());
+            return switch (symbol) {
+                case "==" -> node -> equal(path.resolve(node), literal);
+                case "!=" -> node -> !equal(path.resolve(node), literal);
+                case "<" -> node -> compare(path.resolve(node), literal, order -> order < 0);
+                case "<=" -> node -> compare(path.resolve(node), literal, order -> order <= 0);
+                case ">" -> node -> compare(path.resolve(node), literal, order -> order > 0);
+                case ">=" -> node -> compare(path.resolve(node), literal, order -> order >= 0);
+                default -> throw invalid("unsupported operator '" + symbol + "'");
+            };
+        }
+
+        private Object literal(String literal) {
+            if (literal.length() >= 2 && (literal.charAt(0) == '\'' || literal.charAt(0) == '"')
+                    && literal.charAt(literal.length() - 1) == literal.charAt(0)) {
+                return literal.substring(1, literal.length() - 1);
+            }
+            return switch (literal) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                case "null" -> null;
+                default -> {
+                    try {
+                        yield new BigDecimal(literal);
+                    } catch (NumberFormatException e) {
+                        throw invalid("invalid literal " + literal);
+                    }
+                }
+            };
+        }
+
+        private String name() {
+            int start = position;
+            while (position < expression.length() && peek() != '.' && peek() != '[') {
+                position++;
+            }
+            return expression.substring(start, position);
+        }
+
+        private String quoted() {
+            char quote = peek();
+            int end = expression.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw invalid("unterminated string");
+            }
+            String name = expression.substring(position + 1, end);
+            position = end + 1;
+            return name;
+        }
+
+        private char peek() {
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+
+        private IllegalArgumentException invalid(String reason) {
+            return new IllegalArgumentException("Invalid JSON path query " + expression + ", " + reason + " at " + position);
+        }
+    }
+
+    private static boolean equal(Object value, Object literal) {
+        if (value instanceof Number number && literal instanceof BigDecimal decimal) {
+            return decimal(number).compareTo(decimal) == 0;
+        }
+        return Objects.equals(value, literal);
+    }
+
+    private static boolean compare(Object value, Object literal, IntPredicate order) {
+        if (value instanceof Number number && literal instanceof BigDecimal decimal) {
+            return order.test(decimal(number).compareTo(decimal));
+        }
+        if (value instanceof String string && literal instanceof String other) {
+            return order.test(string.compareTo(other));
+        }
+        return false;
+    }
+
+    private static BigDecimal decimal(Number number) {
+        return number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+    }
+}
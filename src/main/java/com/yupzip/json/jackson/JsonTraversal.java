@@ -0,0 +1,103 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.Json;
+import com.yupzip.json.jackson.PrimitiveLists.DoubleList;
+import com.yupzip.json.jackson.PrimitiveLists.IntList;
+import com.yupzip.json.jackson.PrimitiveLists.LongList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class JsonTraversal implements Iterator<Object> {
+
+    private final Deque<Iterator<?>> stack = new ArrayDeque<>();
+    private final boolean lists;
+    private Object next;
+
+    private JsonTraversal(Object root, boolean lists) {
+        this.next = root;
+        this.lists = lists;
+    }
+
+    static Stream<Map<?, ?>> objects(Map<?, ?> root) {
+        return stream(new JsonTraversal(root, false)).map(node -> (Map<?, ?>) node);
+    }
+
+    static Stream<Object> containers(Object root) {
+        Object node = root instanceof Json json ? json.asMap() : root;
+        if (!(node instanceof Map<?, ?>) && !(node instanceof List<?>)) {
+            return Stream.ofNullable(node);
+        }
+        return stream(new JsonTraversal(node, true));
+    }
+
+    static Object find(Map<?, ?> root, String key) {
+        JsonTraversal traversal = new JsonTraversal(root, false);
+        while (traversal.hasNext()) {
+            Map<?, ?> map = (Map<?, ?>) traversal.next();
+            if (map.containsKey(key)) {
+                Object value = map.get(key);
+                if (null != value || map == root) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (null == next && !stack.isEmpty()) {
+            Iterator<?> children = stack.peek();
+            if (!children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Object child = children.next();
+            if (child instanceof Json json) {
+                child = json.asMap();
+            }
+            if (child instanceof Map<?, ?> map) {
+                next = map;
+            } else if (child instanceof List<?> list) {
+                if (lists) {
+                    next = list;
+                } else if (!isPrimitive(list)) {
+                    stack.push(list.iterator());
+                }
+            }
+        }
+        return null != next;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object node = next;
+        next = null;
+        if (node instanceof Map<?, ?> map) {
+            stack.push(map.values().iterator());
+        } else if (node instanceof List<?> list && !isPrimitive(list)) {
+            stack.push(list.iterator());
+        }
+        return node;
+    }
+
+    private static Stream<Object> stream(JsonTraversal traversal) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(traversal, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static boolean isPrimitive(List<?> list) {
+        return list.isEmpty() || list instanceof IntList || list instanceof LongList || list instanceof DoubleList;
+    }
+}
@@ -0,0 +1,150 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.jackson.JsonIndex.Slot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+final class LazyMap extends AbstractMap<String, Object> {
+
+    private final JsonIndex index;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    LazyMap(byte[] data) {
+        this(JsonIndex.build(data));
+    }
+
+    private LazyMap(JsonIndex index) {
+        this(index, index.root());
+    }
+
+    LazyMap(JsonIndex index, int token) {
+        this.index = index;
+        index.fields(token, values);
+        values.replaceAll((key, slot) -> new Pending((Slot) slot));
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return resolve(values.get(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return resolve(values.put(key, value));
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return resolve(values.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = values.entrySet().iterator();
+                return new Iterator<>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        return new SimpleEntry<>(entry.getKey(), resolve(entry.getValue())) {
+
+                            @Override
+                            public Object setValue(Object value) {
+                                super.setValue(value);
+                                return resolve(entry.setValue(value));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        };
+    }
+
+    boolean isDecoded(String key) {
+        return !(values.get(key) instanceof Pending pending) || pending.isDecoded();
+    }
+
+    private Object resolve(Object value) {
+        return value instanceof Pending pending ? pending.value(index) : value;
+    }
+
+
+    private static final class Pending {
+
+        private static final Object NULL = new Object();
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Pending.class, "value", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Slot slot;
+        private Object value;
+
+        private Pending(Slot slot) {
+            this.slot = slot;
+        }
+
+        private Object value(JsonIndex index) {
+            Object current = VALUE.getAcquire(this);
+            if (null == current) {
+                Object decoded = index.decode(slot);
+                Object masked = null == decoded ? NULL : decoded;
+                current = VALUE.compareAndExchangeRelease(this, null, masked);
+                if (null == current) {
+                    current = masked;
+                }
+            }
+            return NULL == current ? null : current;
+        }
+
+        private boolean isDecoded() {
+            return null != VALUE.getAcquire(this);
+        }
+    }
+}
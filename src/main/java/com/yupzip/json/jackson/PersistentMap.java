@@ -0,0 +1,356 @@
+package com.yupzip.json.jackson;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+final class PersistentMap extends AbstractMap<String, Object> {
+
+    static final PersistentMap EMPTY = new PersistentMap(BitmapNode.EMPTY, 0);
+
+    private static final Object NOT_FOUND = new Object();
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    PersistentMap with(String key, Object value) {
+        boolean[] added = new boolean[1];
+        Node updated = root.put(key, value, hash(key), 0, added);
+        return updated == root ? this : new PersistentMap(updated, added[0] ? size + 1 : size);
+    }
+
+    PersistentMap without(String key) {
+        Node updated = root.remove(key, hash(key), 0);
+        if (updated == root) {
+            return this;
+        }
+        return null == updated ? EMPTY : new PersistentMap(updated, size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String string && root.find(string, hash(string), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String string)) {
+            return null;
+        }
+        Object value = root.find(string, hash(string), 0);
+        return value == NOT_FOUND ? null : value;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private abstract static class Node {
+
+        abstract Object find(String key, int hash, int shift);
+
+        abstract Node put(String key, Object value, int hash, int shift, boolean[] added);
+
+        abstract Node remove(String key, int hash, int shift);
+
+        abstract boolean isSingleEntry();
+    }
+
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        Object find(String key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int index = index(bit);
+            Object storedKey = slots[index];
+            if (null == storedKey) {
+                return ((Node) slots[index + 1]).find(key, hash, shift + BITS);
+            }
+            return key.equals(storedKey) ? slots[index + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node put(String key, Object value, int hash, int shift, boolean[] added) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] updated = new Object[slots.length + 2];
+                System.arraycopy(slots, 0, updated, 0, index);
+                updated[index] = key;
+                updated[index + 1] = value;
+                System.arraycopy(slots, index, updated, index + 2, slots.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, updated);
+            }
+            Object storedKey = slots[index];
+            Object storedValue = slots[index + 1];
+            if (null == storedKey) {
+                Node child = (Node) storedValue;
+                Node updated = child.put(key, value, hash, shift + BITS, added);
+                return updated == child ? this : withSlot(index + 1, updated);
+            }
+            if (key.equals(storedKey)) {
+                return storedValue == value ? this : withSlot(index + 1, value);
+            }
+            added[0] = true;
+            Node merged = merge((String) storedKey, storedValue, hash((String) storedKey), key, value, hash, shift + BITS);
+            Object[] updated = slots.clone();
+            updated[index] = null;
+            updated[index + 1] = merged;
+            return new BitmapNode(bitmap, updated);
+        }
+
+        @Override
+        Node remove(String key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object storedKey = slots[index];
+            if (null == storedKey) {
+                Node child = (Node) slots[index + 1];
+                Node updated = child.remove(key, hash, shift + BITS);
+                if (updated == child) {
+                    return this;
+                }
+                if (null == updated) {
+                    return withoutSlot(bit, index);
+                }
+                if (updated.isSingleEntry()) {
+                    Object[] inlined = slots.clone();
+                    if (updated instanceof BitmapNode single) {
+                        inlined[index] = single.slots[0];
+                        inlined[index + 1] = single.slots[1];
+                    } else {
+                        CollisionNode single = (CollisionNode) updated;
+                        inlined[index] = single.keys[0];
+                        inlined[index + 1] = single.values[0];
+                    }
+                    return new BitmapNode(bitmap, inlined);
+                }
+                return withSlot(index + 1, updated);
+            }
+            return key.equals(storedKey) ? withoutSlot(bit, index) : this;
+        }
+
+        @Override
+        boolean isSingleEntry() {
+            return slots.length == 2 && null != slots[0];
+        }
+
+        private Node withSlot(int index, Object value) {
+            Object[] updated = slots.clone();
+            updated[index] = value;
+            return new BitmapNode(bitmap, updated);
+        }
+
+        private Node withoutSlot(int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] updated = new Object[slots.length - 2];
+            System.arraycopy(slots, 0, updated, 0, index);
+            System.arraycopy(slots, index + 2, updated, index, slots.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, updated);
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private static Node merge(String key1, Object value1, int hash1, String key2, Object value2, int hash2, int shift) {
+            if (shift >= Integer.SIZE) {
+                return new CollisionNode(new String[]{key1, key2}, new Object[]{value1, value2});
+            }
+            int bit1 = bit(hash1, shift);
+            int bit2 = bit(hash2, shift);
+            if (bit1 == bit2) {
+                return new BitmapNode(bit1, new Object[]{null, merge(key1, value1, hash1, key2, value2, hash2, shift + BITS)});
+            }
+            Object[] slots = Integer.compareUnsigned(bit1, bit2) < 0
+                    ? new Object[]{key1, value1, key2, value2}
+                    : new Object[]{key2, value2, key1, value1};
+            return new BitmapNode(bit1 | bit2, slots);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+
+        private final String[] keys;
+        private final Object[] values;
+
+        private CollisionNode(String[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        Object find(String key, int hash, int shift) {
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : values[index];
+        }
+
+        @Override
+        Node put(String key, Object value, int hash, int shift, boolean[] added) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (values[index] == value) {
+                    return this;
+                }
+                Object[] updated = values.clone();
+                updated[index] = value;
+                return new CollisionNode(keys, updated);
+            }
+            String[] updatedKeys = Arrays.copyOf(keys, keys.length + 1);
+            Object[] updatedValues = Arrays.copyOf(values, values.length + 1);
+            updatedKeys[keys.length] = key;
+            updatedValues[values.length] = value;
+            added[0] = true;
+            return new CollisionNode(updatedKeys, updatedValues);
+        }
+
+        @Override
+        Node remove(String key, int hash, int shift) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            if (keys.length == 1) {
+                return null;
+            }
+            String[] updatedKeys = new String[keys.length - 1];
+            Object[] updatedValues = new Object[values.length - 1];
+            System.arraycopy(keys, 0, updatedKeys, 0, index);
+            System.arraycopy(keys, index + 1, updatedKeys, index, keys.length - index - 1);
+            System.arraycopy(values, 0, updatedValues, 0, index);
+            System.arraycopy(values, index + 1, updatedValues, index, values.length - index - 1);
+            return new CollisionNode(updatedKeys, updatedValues);
+        }
+
+        @Override
+        boolean isSingleEntry() {
+            return keys.length == 1;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final Node[] nodes = new Node[MAX_DEPTH + 1];
+        private final int[] positions = new int[MAX_DEPTH + 1];
+        private int depth;
+        private Entry<String, Object> next;
+
+        private EntryIterator(Node root) {
+            nodes[0] = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (null == next) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Object> entry = next;
+            advance();
+            return entry;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int position = positions[depth];
+                if (node instanceof BitmapNode bitmapNode) {
+                    if (position >= bitmapNode.slots.length) {
+                        depth--;
+                        continue;
+                    }
+                    positions[depth] += 2;
+                    Object key = bitmapNode.slots[position];
+                    if (null != key) {
+                        next = new SimpleImmutableEntry<>((String) key, bitmapNode.slots[position + 1]);
+                        return;
+                    }
+                    depth++;
+                    nodes[depth] = (Node) bitmapNode.slots[position + 1];
+                    positions[depth] = 0;
+                } else {
+                    CollisionNode collisionNode = (CollisionNode) node;
+                    if (position >= collisionNode.keys.length) {
+                        depth--;
+                        continue;
+                    }
+                    positions[depth]++;
+                    next = new SimpleImmutableEntry<>(collisionNode.keys[position], collisionNode.values[position]);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.yupzip.json.jackson;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+
+final class PrimitiveLists {
+
+    private PrimitiveLists() {}
+
+    @SuppressWarnings("unchecked")
+    static Object compact(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, Object> entry : ((Map<?, Object>) map).entrySet()) {
+                entry.setValue(compact(entry.getValue()));
+            }
+        } else if (value instanceof List<?> list && !list.isEmpty()) {
+            List<?> primitive = primitive(list);
+            if (null != primitive) {
+                return primitive;
+            }
+            ListIterator<Object> iterator = ((List<Object>) list).listIterator();
+            while (iterator.hasNext()) {
+                iterator.set(compact(iterator.next()));
+            }
+        }
+        return value;
+    }
+
+    static List<?> primitive(List<?> list) {
+        boolean ints = true;
+        boolean longs = true;
+        boolean doubles = true;
+        for (Object element : list) {
+            ints &= element instanceof Integer;
+            longs &= element instanceof Integer || element instanceof Long;
+            doubles &= element instanceof Double;
+            if (!longs && !doubles) {
+                return null;
+            }
+        }
+        int size = list.size();
+        if (ints) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (Integer) list.get(i);
+            }
+            return new IntList(values);
+        }
+        if (longs) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = ((Number) list.get(i)).longValue();
+            }
+            return new LongList(values);
+        }
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (Double) list.get(i);
+        }
+        return new DoubleList(values);
+    }
+
+    static final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] values;
+
+        IntList(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Integer set(int index, Integer value) {
+            int previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        int[] toIntArray() {
+            return Arrays.copyOf(values, values.length);
+        }
+    }
+
+    static final class LongList extends AbstractList<Long> implements RandomAccess {
+
+        private final long[] values;
+
+        LongList(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Long set(int index, Long value) {
+            long previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        long[] toLongArray() {
+            return Arrays.copyOf(values, values.length);
+        }
+    }
+
+    static final class DoubleList extends AbstractList<Double> implements RandomAccess {
+
+        private final double[] values;
+
+        DoubleList(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Double set(int index, Double value) {
+            double previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        double[] toDoubleArray() {
+            return Arrays.copyOf(values, values.length);
+        }
+    }
+}
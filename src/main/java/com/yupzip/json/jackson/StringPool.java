@@ -0,0 +1,35 @@
+package com.yupzip.json.jackson;
+
+import com.yupzip.json.CacheStats;
+
+import java.util.function.Function;
+
+final class StringPool {
+
+    private final BoundedCache<String, String> strings;
+    private final int maxLength;
+
+    StringPool(int size, int maxLength) {
+        this.strings = new BoundedCache<>(size);
+        this.maxLength = maxLength;
+    }
+
+    static StringPool disabled() {
+        return new StringPool(0, -1);
+    }
+
+    String intern(String value) {
+        if (null == value || value.length() > maxLength) {
+            return value;
+        }
+        return strings.get(value, Function.identity());
+    }
+
+    boolean isEnabled() {
+        return maxLength >= 0;
+    }
+
+    CacheStats stats() {
+        return strings.stats();
+    }
+}
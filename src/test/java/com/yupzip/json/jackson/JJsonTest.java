@@ -1,41 +1,71 @@
 package com.yupzip.json.jackson;
 
+import com.yupzip.json.CacheStats;
 import com.yupzip.json.Json;
+import com.yupzip.json.JsonBatch;
 import com.yupzip.json.JsonConfiguration;
 import com.yupzip.json.JsonConfiguration.MapType;
+import com.yupzip.json.JsonConfiguration.ObjectAccess;
+import com.yupzip.json.JsonKeyIndex;
 import com.yupzip.json.JsonParseException;
+import com.yupzip.json.JsonPath;
+import com.yupzip.json.JsonWriter;
 import com.yupzip.json.PropertyRequiredException;
 import com.yupzip.json.mock.Address;
 import com.yupzip.json.mock.Person;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.JsonNodeCreator;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.yupzip.json.JsonConfiguration.MAP_TYPE;
+import static com.yupzip.json.JsonConfiguration.OBJECT_ACCESS;
 import static java.lang.Boolean.parseBoolean;
 import static java.util.Collections.singletonList;
 
@@ -682,4 +712,867 @@ class JJsonTest {
         Assertions.assertEquals(LocalDate.of(2024, 10, 1), payload.localDateOrThrow("date", "yyyy-MM-dd", new RuntimeException()));
         Assertions.assertThrows(RuntimeException.class, () -> payload.localDate("date2", "yyyy-MMM-dd"));
     }
+
+    @Test
+    void shouldWrapMapWithoutCopying() {
+        Map<String, Object> address = new HashMap<>();
+        address.put("postCode", "2000");
+        Map<String, Object> person = new HashMap<>();
+        person.put("address", address);
+
+        Json json = Json.wrap(person);
+        Assertions.assertSame(person, json.asMap());
+        Assertions.assertNull(Json.wrap(null));
+
+        json.put("id", 1);
+        Assertions.assertEquals(1, person.get("id"));
+
+        Json nested = json.object("address");
+        nested.put("state", "NSW");
+        if (OBJECT_ACCESS == ObjectAccess.VIEW) {
+            Assertions.assertSame(address, nested.asMap());
+            Assertions.assertEquals("NSW", address.get("state"));
+        } else {
+            Assertions.assertFalse(address.containsKey("state"));
+        }
+    }
+
+    @Test
+    void shouldViewOrCopyNestedObjectsPerObjectAccess() {
+        Map<String, Object> address = new HashMap<>();
+        address.put("postCode", "2000");
+
+        Json view = JJson.nested(address, ObjectAccess.VIEW);
+        Assertions.assertSame(address, view.asMap());
+        view.put("state", "NSW");
+        Assertions.assertEquals("NSW", address.get("state"));
+        Json json = Json.create();
+        Assertions.assertSame(json, JJson.nested(json, ObjectAccess.VIEW));
+
+        Json copy = JJson.nested(address, ObjectAccess.COPY);
+        Assertions.assertNotSame(address, copy.asMap());
+        Assertions.assertEquals("2000", copy.string("postCode"));
+        copy.put("country", "Australia");
+        Assertions.assertFalse(address.containsKey("country"));
+    }
+
+    @Test
+    void shouldCopyJson() {
+        Json person = Json.create()
+                .put("id", 1)
+                .put("address", Json.create().put("postCode", "2000"));
+
+        Json copy = person.copy();
+        Assertions.assertEquals(person, copy);
+        Assertions.assertNotSame(person.asMap(), copy.asMap());
+
+        copy.put("id", 2);
+        copy.object("address").put("state", "NSW");
+        Assertions.assertEquals(1, person.integer("id"));
+        Assertions.assertFalse(person.object("address").hasKey("state"));
+    }
+
+    @Test
+    void shouldWrapArrayElementsLazily() {
+        Json payload = Json.create()
+                .put("data", Arrays.asList(
+                        Json.create().put("id", 1),
+                        Json.create().put("id", 2),
+                        Json.create().put("id", 3)));
+        payload.asMap().put("broken", Arrays.asList(Map.of("id", 1), "not an object"));
+
+        List<Json> data = payload.array("data");
+        Assertions.assertEquals(3, data.size());
+        Assertions.assertEquals(2, data.get(1).integer("id"));
+        Assertions.assertTrue(data.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assertions.assertEquals(6, payload.stream("data").parallel().mapToInt(json -> json.integer("id")).sum());
+        Assertions.assertTrue(payload.stream("data").spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assertions.assertEquals(0, payload.stream("missing").count());
+
+        Assertions.assertEquals(1, payload.stream("broken").findFirst().orElseThrow().integer("id"));
+        Assertions.assertEquals(2, payload.array("broken").size());
+        Assertions.assertNull(payload.array("missing"));
+
+        List<Json> stable = payload.array("data");
+        stable.getFirst().put("name", "first");
+        Assertions.assertSame(stable.getFirst(), stable.getFirst());
+        Assertions.assertEquals("first", stable.getFirst().string("name"));
+        stable.add(Json.create().put("id", 4));
+        stable.remove(1);
+        Assertions.assertEquals(List.of(1, 3, 4), stable.stream().map(json -> json.integer("id")).toList());
+        Assertions.assertEquals("first", stable.getFirst().string("name"));
+        Assertions.assertEquals(3, payload.array("data").size());
+    }
+
+    @Test
+    void shouldReadScalarsWithoutConversion() {
+        Json person = Json.create()
+                .put("id", 1)
+                .put("age", (short) 30)
+                .put("weight", 90.1)
+                .put("height", 180)
+                .put("verified", true)
+                .put("score", "97.5")
+                .put("name", "John")
+                .put("missing", (Object) null);
+
+        Assertions.assertEquals(1, person.integerAsInt("id"));
+        Assertions.assertEquals(30, person.integerAsInt("age"));
+        Assertions.assertEquals(90.1, person.decimalAsDouble("weight"));
+        Assertions.assertEquals(180.0, person.decimalAsDouble("height"));
+        Assertions.assertEquals(97.5, person.decimalAsDouble("score"));
+        Assertions.assertEquals(180.0, person.decimal("height"));
+        Assertions.assertTrue(person.bool("verified"));
+        Assertions.assertEquals(7, person.integerOr("missing", 7));
+        Assertions.assertThrows(PropertyRequiredException.class, () -> person.integerAsInt("missing"));
+        Assertions.assertThrows(PropertyRequiredException.class, () -> person.decimalAsDouble("unknown"));
+        Assertions.assertThrows(JsonParseException.class, () -> person.integerAsInt("name"));
+    }
+
+    @Test
+    void shouldParseStreamsFilesAndBuffers(@TempDir Path tempDir) throws IOException {
+        String jsonString = "{\"id\":1,\"name\":\"John\",\"weight\":90.1}";
+        byte[] data = jsonString.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(tempDir.resolve("person.json"), data);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(data.length).put(data).flip();
+        Json expected = Json.parse(jsonString);
+
+        Assertions.assertEquals(expected, Json.parse(new ByteArrayInputStream(data)));
+        Assertions.assertEquals(expected, Json.parse(new StringReader(jsonString)));
+        Assertions.assertEquals(expected, Json.parse(file));
+        Assertions.assertEquals(expected, Json.parse(ByteBuffer.wrap(data)));
+        Assertions.assertEquals(expected, Json.parse(directBuffer));
+        Assertions.assertEquals(data.length, directBuffer.remaining());
+
+        Assertions.assertEquals("John", Json.parseAs(new ByteArrayInputStream(data), Person.class).getName());
+        Assertions.assertEquals("John", Json.parseAs(new StringReader(jsonString), Person.class).getName());
+        Assertions.assertEquals("John", Json.parseAs(file, Person.class).getName());
+        Assertions.assertEquals("John", Json.parseAs(ByteBuffer.wrap(data), Person.class).getName());
+        Assertions.assertEquals("John", Json.parseAs(directBuffer, Person.class).getName());
+
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parse(tempDir.resolve("missing.json")));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parse(new StringReader("{\"id\":")));
+    }
+
+    @Test
+    void shouldStreamJsonLines(@TempDir Path tempDir) throws IOException {
+        String lines = """
+                {"id":1,"type":"click"}
+                {"id":2,"type":"view"}
+
+                {"id":3,"type":"click"}
+                """;
+        Path file = Files.writeString(tempDir.resolve("events.ndjson"), lines);
+
+        try (Stream<Json> events = Json.lines(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)))) {
+            Assertions.assertEquals(List.of(1, 2, 3), events.map(event -> event.integer("id")).toList());
+        }
+        try (Stream<Json> events = Json.lines(file)) {
+            Assertions.assertEquals(2, events.filter(event -> event.valueEquals("type", "click")).count());
+        }
+
+        String invalid = "{\"id\":1}\n{\"id\":}\n";
+        try (Stream<Json> events = Json.lines(new ByteArrayInputStream(invalid.getBytes(StandardCharsets.UTF_8)))) {
+            JsonParseException exception = Assertions.assertThrows(JsonParseException.class, () -> events.forEach(Json::isEmpty));
+            Assertions.assertEquals(2, exception.getLineNumber());
+            Assertions.assertTrue(exception.getOffset() > 0);
+        }
+    }
+
+    @Test
+    void shouldStreamJsonLinesInParallel(@TempDir Path tempDir) throws IOException {
+        int count = 50_000;
+        Path file = tempDir.resolve("events.ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(Json.create().put("id", i).put("type", "click").put("payload", "x".repeat(32)).toString());
+                writer.newLine();
+            }
+        }
+
+        try (Stream<Json> events = Json.parallelLines(file)) {
+            List<Integer> ids = events.map(event -> event.integer("id")).toList();
+            Assertions.assertEquals(IntStream.range(0, count).boxed().toList(), ids);
+        }
+
+        LongAdder sum = new LongAdder();
+        Json.parallelLines(file, event -> sum.add(event.integer("id")));
+        Assertions.assertEquals((long) count * (count - 1) / 2, sum.sum());
+    }
+
+    @Test
+    void shouldParseMemoryMappedFile(@TempDir Path tempDir) throws IOException {
+        URL url = JJsonTest.class.getClassLoader().getResource(MOCK_JSON_RESOURCE);
+        Path file = Files.write(tempDir.resolve("resource.json"), Objects.requireNonNull(url).openStream().readAllBytes());
+        Path empty = Files.createFile(tempDir.resolve("empty.json"));
+
+        Json mapped = Json.parseMapped(file);
+        Assertions.assertEquals(Json.parse(file), mapped);
+        Assertions.assertEquals("articles", mapped.array("data").getFirst().string("type"));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseMapped(empty));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseMapped(tempDir.resolve("missing.json")));
+    }
+
+    @Test
+    void shouldWriteJsonWithoutIntermediateString() {
+        Json person = Json.create()
+                .put("id", 1)
+                .put("name", "Jöhn")
+                .put("address", Json.create().put("postCode", "2000"));
+        byte[] expected = person.toString().getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertArrayEquals(expected, person.toBytes());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        person.writeTo(outputStream);
+        person.writeTo(outputStream);
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(outputStream.toByteArray(), expected.length));
+        Assertions.assertEquals(expected.length * 2, outputStream.size());
+
+        StringWriter writer = new StringWriter();
+        person.writeTo(writer);
+        Assertions.assertEquals(person.toString(), writer.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        person.writeTo(buffer);
+        Assertions.assertArrayEquals(expected, buffer.array());
+        Assertions.assertThrows(JsonParseException.class, () -> person.writeTo(ByteBuffer.allocate(4)));
+
+        Json large = Json.create().put("values", Collections.nCopies(10_000, "a value that overflows the generator buffer"));
+        ByteBuffer partial = ByteBuffer.allocate(64 * 1024);
+        partial.put((byte) '#');
+        Assertions.assertThrows(JsonParseException.class, () -> large.writeTo(partial));
+        Assertions.assertEquals(1, partial.position());
+    }
+
+    @Test
+    void shouldStoreSmallObjectsInCompactMap() {
+        Map<String, Object> map = MapType.COMPACT.createMap();
+        Json json = Json.wrap(map)
+                .put("id", 1)
+                .put("name", "John")
+                .put("verified", true);
+        json.put("id", 2);
+
+        Assertions.assertEquals(List.of("id", "name", "verified"), List.copyOf(map.keySet()));
+        Assertions.assertEquals(2, json.integer("id"));
+        Assertions.assertTrue(json.remove("name"));
+        Assertions.assertEquals(Map.of("id", 2, "verified", true), map);
+        Assertions.assertEquals(Map.of("id", 2, "verified", true).hashCode(), map.hashCode());
+
+        for (int i = 0; i < 20; i++) {
+            json.put("key" + i, i);
+        }
+        Assertions.assertEquals(22, map.size());
+        Assertions.assertEquals("id", map.keySet().iterator().next());
+        Assertions.assertEquals(19, json.integer("key19"));
+
+        map.entrySet().removeIf(entry -> entry.getKey().startsWith("key"));
+        Assertions.assertEquals(Json.parse("{\"id\":2,\"verified\":true}"), json);
+        map.clear();
+        Assertions.assertTrue(json.isEmpty());
+    }
+
+    @Test
+    void shouldReadNumericArraysAsPrimitives() {
+        Json telemetry = Json.create()
+                .put("counts", Arrays.asList(1, 2, 3))
+                .put("timestamps", Arrays.asList(1, 5_000_000_000L))
+                .put("samples", Arrays.asList(0.5, 1.5, 2))
+                .put("labels", Arrays.asList("a", "b"));
+
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, telemetry.ints("counts"));
+        Assertions.assertArrayEquals(new long[]{1, 5_000_000_000L}, telemetry.longs("timestamps"));
+        Assertions.assertArrayEquals(new double[]{0.5, 1.5, 2.0}, telemetry.doubles("samples"));
+        Assertions.assertEquals(6, telemetry.intStream("counts").sum());
+        Assertions.assertEquals(4.0, telemetry.doubleStream("samples").sum());
+        Assertions.assertEquals(0, telemetry.intStream("missing").count());
+        Assertions.assertNull(telemetry.ints("missing"));
+        Assertions.assertThrows(JsonParseException.class, () -> telemetry.ints("labels"));
+    }
+
+    @Test
+    void shouldCompactNumericArraysToPrimitiveLists() {
+        Json parsed = Json.parse("{\"counts\":[1,2,3],\"ids\":[1,5000000000],\"samples\":[0.5,1.5],\"mixed\":[1,0.5],\"nested\":{\"values\":[[1,2],[3]]}}");
+        Map<String, Object> compacted = new HashMap<>();
+        parsed.asMap().forEach((key, value) -> compacted.put(key, PrimitiveLists.compact(value)));
+
+        Assertions.assertInstanceOf(PrimitiveLists.IntList.class, compacted.get("counts"));
+        Assertions.assertInstanceOf(PrimitiveLists.LongList.class, compacted.get("ids"));
+        Assertions.assertInstanceOf(PrimitiveLists.DoubleList.class, compacted.get("samples"));
+        Assertions.assertFalse(compacted.get("mixed") instanceof PrimitiveLists.DoubleList);
+        Assertions.assertEquals(List.of(1, 2, 3), compacted.get("counts"));
+
+        Json json = Json.wrap(compacted);
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, json.ints("counts"));
+        Assertions.assertEquals(List.of(0.5, 1.5), json.decimals("samples"));
+        List<?> nestedValues = (List<?>) ((Map<?, ?>) compacted.get("nested")).get("values");
+        Assertions.assertInstanceOf(PrimitiveLists.IntList.class, nestedValues.getFirst());
+        Assertions.assertEquals(Json.parse(json.toString()), parsed);
+    }
+
+    @Test
+    void shouldDecodeLazilyParsedValuesOnFirstAccess() throws IOException {
+        URL url = JJsonTest.class.getClassLoader().getResource(MOCK_JSON_RESOURCE);
+        byte[] data = Objects.requireNonNull(url).openStream().readAllBytes();
+
+        Json payload = Json.parseLazy(data);
+        LazyMap properties = (LazyMap) payload.asMap();
+        Assertions.assertTrue(payload.hasKey("included"));
+        Assertions.assertFalse(properties.isDecoded("data"));
+        Assertions.assertFalse(properties.isDecoded("included"));
+
+        Assertions.assertEquals("articles", payload.array("data").getFirst().string("type"));
+        Assertions.assertTrue(properties.isDecoded("data"));
+        Assertions.assertFalse(properties.isDecoded("included"));
+
+        Assertions.assertEquals(Json.parse(data), payload);
+        Assertions.assertEquals(Json.parse(data), Json.parse(payload.toString()));
+
+        Json scalars = Json.parseLazy("{\"id\":1,\"name\":\"Jo\\\"hn\",\"weight\":90.1,\"verified\":true,\"none\":null}".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(1, scalars.integer("id"));
+        Assertions.assertEquals("Jo\"hn", scalars.string("name"));
+        Assertions.assertEquals(90.1, scalars.decimal("weight"));
+        Assertions.assertTrue(scalars.bool("verified"));
+        Assertions.assertTrue(scalars.hasKey("none"));
+        Assertions.assertFalse(scalars.hasValueFor("none"));
+        Assertions.assertTrue(scalars.remove("id"));
+        Assertions.assertEquals(4, scalars.asMap().size());
+
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("[1,2]".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"id\":".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldReadLazilyParsedValuesFromManyThreads() throws IOException {
+        URL url = JJsonTest.class.getClassLoader().getResource(MOCK_JSON_RESOURCE);
+        byte[] data = Objects.requireNonNull(url).openStream().readAllBytes();
+        Json expected = Json.parse(data);
+
+        for (int run = 0; run < 50; run++) {
+            Json payload = Json.parseLazy(data);
+            Set<Object> included = IntStream.range(0, 64).parallel()
+                    .mapToObj(i -> payload.asMap().get("included"))
+                    .collect(Collectors.toSet());
+            Assertions.assertEquals(1, included.stream().map(System::identityHashCode).distinct().count());
+            Assertions.assertEquals(expected, payload);
+        }
+
+        LazyMap properties = (LazyMap) Json.parseLazy(data).asMap();
+        Assertions.assertEquals(expected.asMap().get("included"), properties.put("included", null));
+        Assertions.assertFalse(properties.isDecoded("data"));
+    }
+
+    @Test
+    void shouldNavigateStructuralIndexWithoutDecodingSiblings() {
+        String jsonString = """
+                {
+                  "meta" : { "total" : 5000000000, "ratio" : 0.25, "tags" : [ ], "flags" : [true, false, null] },
+                  "data" : [ { "id" : "1", "title" : "Caf\\u00e9 \\"quoted\\"" }, { "id" : "2", "title" : "\\\\" } ],
+                  "text" : "braces { [ and quotes \\" inside a long string value",
+                  "count" : -42
+                }
+                """;
+        byte[] data = jsonString.getBytes(StandardCharsets.UTF_8);
+
+        Json payload = Json.parseLazy(data);
+        Assertions.assertEquals(-42, payload.integer("count"));
+        Assertions.assertEquals("braces { [ and quotes \" inside a long string value", payload.string("text"));
+        Assertions.assertFalse(((LazyMap) payload.asMap()).isDecoded("data"));
+
+        Json meta = payload.object("meta");
+        Assertions.assertEquals(5_000_000_000L, meta.get("total", Long.class));
+        Assertions.assertEquals(0.25, meta.decimal("ratio"));
+        Assertions.assertEquals(0, meta.array("tags").size());
+        Assertions.assertEquals(Arrays.asList(true, false, null), meta.get("flags", List.class));
+        Assertions.assertEquals("Café \"quoted\"", payload.array("data").getFirst().string("title"));
+        Assertions.assertEquals("\\", payload.array("data").get(1).string("title"));
+        Assertions.assertEquals(Json.parse(data), payload);
+
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"id\":1]".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"id\" 1}".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"id\":01}".getBytes(StandardCharsets.UTF_8)).integer("id"));
+        Assertions.assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"id\":\"1}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldResolvePointersAndDottedPaths() {
+        String jsonString = """
+                {
+                  "data" : [ { "id" : "1", "attributes" : { "title" : "First", "tags" : [ { "name" : "a" } ] } } ],
+                  "meta" : { "count" : 7 },
+                  "a/b" : { "m~n" : "escaped" }
+                }
+                """;
+        Json response = Json.parse(jsonString);
+
+        Assertions.assertEquals("First", response.stringAt("/data/0/attributes/title"));
+        Assertions.assertEquals("First", response.stringAt("data[0].attributes.title"));
+        Assertions.assertEquals("First", response.stringAt("data.0.attributes.title"));
+        Assertions.assertEquals(7, response.integerAt("meta.count"));
+        Assertions.assertEquals(7, response.integerAt("/meta/count"));
+        Assertions.assertEquals("escaped", response.stringAt("/a~1b/m~0n"));
+        Assertions.assertEquals("a", response.arrayAt("data[0].attributes.tags").getFirst().string("name"));
+        Assertions.assertEquals(7, response.at("/meta").integer("count"));
+
+        JsonPath path = JsonPath.compile("data[0].attributes");
+        Assertions.assertSame(path, JsonPath.compile("data[0].attributes"));
+        Assertions.assertEquals("First", response.at(path).string("title"));
+
+        Assertions.assertNull(response.at("/data/1"));
+        Assertions.assertNull(response.stringAt("/data/x/attributes"));
+        Assertions.assertNull(response.integerAt("meta.missing.count"));
+        Assertions.assertThrows(JsonParseException.class, () -> response.integerAt("/data/0/attributes/title"));
+        Assertions.assertThrows(JsonParseException.class, () -> response.stringAt("/meta/count"));
+    }
+
+    @Test
+    void shouldQueryWithWildcardsAndFilters() {
+        String jsonString = """
+                {
+                  "data" : [
+                    { "id" : "1", "relationships" : { "author" : { "data" : { "id" : "9" } } } },
+                    { "id" : "2", "relationships" : { "author" : { "data" : { "id" : "7" } } } }
+                  ],
+                  "included" : [
+                    { "type" : "people", "id" : "9", "age" : 41 },
+                    { "type" : "comments", "id" : "5" },
+                    { "type" : "people", "id" : "7", "age" : 29 }
+                  ]
+                }
+                """;
+        Json response = Json.parse(jsonString);
+
+        Assertions.assertEquals(List.of("9", "7"), response.query("$.data[*].relationships.author.data.id", String.class).toList());
+        Assertions.assertEquals(List.of("9", "7"), response.query("$.included[?(@.type=='people')]").map(person -> person.string("id")).toList());
+        Assertions.assertEquals(List.of("9"), response.query("$.included[?(@.age > 30)].id", String.class).toList());
+        Assertions.assertEquals(List.of("5"), response.query("$.included[?(@.type != 'people')]['id']", String.class).toList());
+        Assertions.assertEquals(2, response.query("$.included[?(@.age)]").count());
+        Assertions.assertEquals("7", response.query("$.included[-1].id", String.class).findFirst().orElseThrow());
+        Assertions.assertEquals(7, response.query("$..id", String.class).count());
+        Assertions.assertEquals(0, response.query("$.missing[*].id").count());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> response.query("$.data[?(@.id == 1"));
+
+        try (Stream<Json> people = Json.query(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "$.included[?(@.type=='people')]")) {
+            Assertions.assertEquals(List.of(41, 29), people.map(person -> person.integer("age")).toList());
+        }
+        try (Stream<Json> authors = Json.query(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "$.data[*].relationships.author.data")) {
+            Assertions.assertEquals(List.of("9", "7"), authors.map(author -> author.string("id")).toList());
+        }
+        try (Stream<String> authorIds = Json.query(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "$.data[*].relationships.author.data.id", String.class)) {
+            Assertions.assertEquals(List.of("9", "7"), authorIds.toList());
+        }
+        try (Stream<Json> authorIds = Json.query(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "$.data[*].relationships.author.data.id")) {
+            Assertions.assertThrows(JsonParseException.class, authorIds::toList);
+        }
+        Assertions.assertThrows(JsonParseException.class, () -> response.query("$.included[*].age").toList());
+        String truncated = "{\"included\":[{\"type\":\"people\",\"id\":\"9\"},{\"type\":}]}";
+        try (Stream<Json> people = Json.query(new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)), "$.included[?(@.type=='people')]")) {
+            Assertions.assertEquals("9", people.findFirst().orElseThrow().string("id"));
+        }
+
+        Map<String, Object> deep = new HashMap<>(Map.of("leaf", "bottom"));
+        for (int i = 0; i < 100_000; i++) {
+            Map<String, Object> parent = new HashMap<>();
+            parent.put("child", i % 2 == 0 ? deep : List.of(deep));
+            deep = parent;
+        }
+        Assertions.assertEquals(List.of("bottom"), Json.wrap(deep).query("$..leaf", String.class).toList());
+    }
+
+    @Test
+    void shouldFindAllValuesIteratively() {
+        Json response = Json.parse("""
+                {
+                  "id" : "root",
+                  "data" : [ { "id" : "1", "tags" : [ [ { "id" : "t" } ] ] }, { "id" : "2", "author" : { "id" : "9" } } ],
+                  "meta" : { "id" : null }
+                }
+                """);
+
+        Assertions.assertEquals(List.of("root", "1", "t", "2", "9"), response.findAll("id", String.class).toList());
+        Assertions.assertEquals("2", response.array("data").get(1).find("id", String.class));
+        Assertions.assertEquals("9", response.find("author", Json.class).string("id"));
+        Assertions.assertEquals(0, response.findAll("missing", String.class).count());
+
+        JsonKeyIndex index = response.keyIndex();
+        Assertions.assertTrue(index.contains("author"));
+        Assertions.assertFalse(index.contains("missing"));
+        Assertions.assertEquals("root", index.find("id", String.class));
+        Assertions.assertEquals(List.of("root", "1", "t", "2", "9"), index.findAll("id", String.class).toList());
+        Assertions.assertEquals("9", index.find("author", Json.class).string("id"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> index.keys().clear());
+
+        Json nestedNull = Json.parse("""
+                { "meta" : { "id" : null, "owner" : { "id" : "7" } } }
+                """);
+        Assertions.assertEquals("7", nestedNull.find("id", String.class));
+        Assertions.assertEquals("7", nestedNull.keyIndex().find("id", String.class));
+        Json rootNull = Json.parse("""
+                { "id" : null, "meta" : { "id" : "x" } }
+                """);
+        Assertions.assertNull(rootNull.find("id", String.class));
+        Assertions.assertNull(rootNull.keyIndex().find("id", String.class));
+
+        Map<String, Object> deepest = new HashMap<>();
+        deepest.put("depth", 100_000);
+        Map<String, Object> node = deepest;
+        for (int i = 0; i < 100_000; i++) {
+            Map<String, Object> parent = new HashMap<>();
+            parent.put("child", i % 2 == 0 ? node : List.of(node));
+            node = parent;
+        }
+        Assertions.assertEquals(100_000, Json.wrap(node).find("depth", Integer.class));
+    }
+
+    @Test
+    void shouldCanonicalizePooledStrings() {
+        StringPool pool = new StringPool(2, 8);
+        String people = pool.intern(new String("people"));
+
+        Assertions.assertSame(people, pool.intern(new String("people")));
+        Assertions.assertNotSame(pool.intern("a much longer value"), pool.intern(new String("a much longer value")));
+        Assertions.assertNull(pool.intern(null));
+        Assertions.assertEquals(1, pool.stats().hits());
+        Assertions.assertEquals(1, pool.stats().misses());
+        Assertions.assertEquals(0.5, pool.stats().hitRate());
+
+        pool.intern("articles");
+        pool.intern("comments");
+        Assertions.assertEquals(2, pool.stats().size());
+        Assertions.assertEquals(1, pool.stats().evictions());
+
+        StringPool disabled = StringPool.disabled();
+        Assertions.assertFalse(disabled.isEnabled());
+        Assertions.assertEquals("people", disabled.intern("people"));
+        Assertions.assertEquals(0, disabled.stats().size());
+        Assertions.assertNotNull(Json.stringPoolStats());
+    }
+
+    @Test
+    void shouldPoolStringValuesParsedFromSeparateDocuments() {
+        StringPool pool = new StringPool(16, 32);
+        ObjectReader reader = JacksonConfiguration.getJsonMapper(JacksonConfiguration.loadProperties(), pool).readerFor(JJson.class);
+        String document = "{\"type\":\"people\",\"tags\":[\"admin\"],\"name\":\"a value longer than the maximum pooled length\"}";
+
+        Json first = reader.readValue(document);
+        Json second = reader.readValue(document);
+
+        Assertions.assertSame(first.string("type"), second.string("type"));
+        Assertions.assertSame(((List<?>) first.asMap().get("tags")).getFirst(), ((List<?>) second.asMap().get("tags")).getFirst());
+        Assertions.assertNotSame(first.string("name"), second.string("name"));
+        Assertions.assertEquals(2, pool.stats().hits());
+        Assertions.assertEquals(2, pool.stats().misses());
+    }
+
+    @Test
+    void shouldCacheDateFormattersAcrossCalls() throws ParseException {
+        Json dates = Json.create()
+                .put("created", "2020-02-31 25:30:00")
+                .put("zoned", "2020-01-25T09:00:00+05:30")
+                .put("date", "2024-10-01");
+
+        SimpleDateFormat legacy = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        Assertions.assertEquals(legacy.parse("2020-02-31 25:30:00"), dates.date("created", "yyyy-MM-dd HH:mm:ss"));
+        legacy.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Assertions.assertEquals(legacy.parse("2020-02-31 25:30:00"), dates.date("created", "yyyy-MM-dd HH:mm:ss", "UTC"));
+        Assertions.assertEquals(Date.from(Instant.parse("2020-01-25T03:30:00Z")), dates.date("zoned", "yyyy-MM-dd'T'HH:mm:ssXXX", "UTC"));
+
+        CacheStats before = Json.dateFormatterStats();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(LocalDate.of(2024, 10, 1), dates.localDate("date", "yyyy-MM-dd"));
+        }
+        Assertions.assertTrue(Json.dateFormatterStats().hits() >= before.hits() + 9);
+        Assertions.assertThrows(JsonParseException.class, () -> dates.date("date", "HH:mm"));
+
+        Json legacyDates = Json.create()
+                .put("offset", "2020-01-25T09:00:00.000+0530")
+                .put("short", "2020-1-5");
+        before = Json.dateFormatterStats();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(Date.from(Instant.parse("2020-01-25T03:30:00Z")), legacyDates.date("offset", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"));
+            Assertions.assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2020-1-5"), legacyDates.date("short", "yyyy-MM-dd"));
+        }
+        Assertions.assertTrue(Json.dateFormatterStats().hits() >= before.hits() + 18);
+    }
+
+    @Test
+    void shouldKeepRecentlyReadEntriesWhenEvicting() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals("hot", cache.get("hot", key -> {
+                loads.incrementAndGet();
+                return key;
+            }));
+            cache.get("cold" + i, Function.identity());
+        }
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(4, cache.stats().size());
+        Assertions.assertEquals(97, cache.stats().evictions());
+    }
+
+    @Test
+    void shouldParseIsoDateTimes() {
+        Json dates = Json.create()
+                .put("date", "2024-10-01")
+                .put("dateTime", "2024-10-01T09:30:15.250")
+                .put("minutes", "2024-10-01T09:30")
+                .put("zoned", "2024-10-01T09:30:15+10:00")
+                .put("utc", "2024-10-01T09:30:15.123456789Z")
+                .put("extendedYear", "+12024-10-01")
+                .put("invalid", "2024-02-30");
+
+        Assertions.assertEquals(LocalDate.of(2024, 10, 1), dates.localDate("date"));
+        Assertions.assertEquals(LocalDateTime.of(2024, 10, 1, 9, 30, 15, 250_000_000), dates.localDateTime("dateTime"));
+        Assertions.assertEquals(LocalDateTime.of(2024, 10, 1, 9, 30), dates.localDateTime("minutes"));
+        Assertions.assertEquals(OffsetDateTime.parse("2024-10-01T09:30:15+10:00"), dates.offsetDateTime("zoned"));
+        Assertions.assertEquals(Instant.parse("2024-10-01T09:30:15.123456789Z"), dates.instant("utc"));
+        Assertions.assertEquals(Instant.parse("2024-09-30T23:30:15Z"), dates.instant("zoned"));
+        Assertions.assertEquals(LocalDate.parse("+12024-10-01"), dates.localDate("extendedYear"));
+        Assertions.assertNull(dates.instant("missing"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> dates.localDate("invalid"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> dates.instant("date"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFreezeDeeplyImmutableSnapshots() throws InterruptedException {
+        Json source = Json.create()
+                .put("id", 1)
+                .put("tags", new ArrayList<>(List.of("a", "b")))
+                .put("address", Json.create().put("state", "NSW"))
+                .put("friends", List.of(Json.create().put("name", "Jane")));
+        Json frozen = source.freeze();
+
+        Assertions.assertTrue(frozen.isFrozen());
+        Assertions.assertFalse(source.isFrozen());
+        Assertions.assertSame(frozen, frozen.freeze());
+        Assertions.assertEquals(source, frozen);
+        Assertions.assertEquals(frozen, source);
+        Assertions.assertEquals(source.hashCode(), frozen.hashCode());
+        Assertions.assertEquals(source.toString(), frozen.toString());
+        Assertions.assertEquals("NSW", frozen.object("address").string("state"));
+        Assertions.assertEquals("Jane", frozen.array("friends").getFirst().string("name"));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.put("id", 2));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.remove("id"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.append("tags", "c"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) frozen.asMap().get("tags")).add("c"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((Map<String, Object>) frozen.asMap().get("address")).put("state", "VIC"));
+
+        source.put("id", 2).append("tags", "c");
+        Assertions.assertEquals(1, frozen.integer("id"));
+        Assertions.assertEquals(List.of("a", "b"), frozen.strings("tags"));
+        Assertions.assertEquals(Json.parse(frozen.toString()), frozen.copy());
+        Assertions.assertFalse(frozen.copy().isFrozen());
+
+        LongAdder reads = new LongAdder();
+        Thread[] readers = new Thread[8];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (frozen.integer("id") == 1) {
+                        reads.increment();
+                    }
+                }
+            });
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        Assertions.assertEquals(8_000, reads.sum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeriveVersionsFromPersistentJson() {
+        Json base = Json.parse("""
+                { "id" : "1", "type" : "articles", "attributes" : { "title" : "JSON API" }, "tags" : [ "a", "b" ] }
+                """).persistent();
+
+        Json tenant = base.with("tenantId", "t-1");
+        Json stripped = tenant.without("attributes");
+
+        Assertions.assertFalse(base.hasKey("tenantId"));
+        Assertions.assertEquals("t-1", tenant.string("tenantId"));
+        Assertions.assertEquals("JSON API", tenant.object("attributes").string("title"));
+        Assertions.assertFalse(stripped.hasKey("attributes"));
+        Assertions.assertTrue(tenant.hasKey("attributes"));
+        Assertions.assertSame(base.asMap().get("attributes"), tenant.asMap().get("attributes"));
+        Assertions.assertSame(base.asMap(), base.without("missing").asMap());
+        Assertions.assertEquals(Json.parse(base.toString()), base);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> base.put("id", "2"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) base.asMap().get("tags")).add("c"));
+
+        List<String> labels = new ArrayList<>(List.of("draft"));
+        Map<String, Object> owner = new HashMap<>(Map.of("name", "Jane"));
+        Json labelled = base.with("labels", labels).with("owner", owner);
+        labels.add("published");
+        owner.put("name", "John");
+        Assertions.assertEquals(List.of("draft"), labelled.strings("labels"));
+        Assertions.assertEquals("Jane", labelled.object("owner").string("name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((Map<String, Object>) labelled.asMap().get("owner")).put("name", "John"));
+
+        Json collisions = Json.create().persistent();
+        for (int i = 0; i < 2_000; i++) {
+            collisions = collisions.with("key" + i, i).with(i % 2 == 0 ? "Aa" : "BB", i);
+        }
+        Assertions.assertEquals(2_002, collisions.asMap().size());
+        Assertions.assertEquals(1_998, collisions.integer("Aa"));
+        Assertions.assertEquals(1_999, collisions.integer("BB"));
+        for (int i = 0; i < 2_000; i++) {
+            collisions = collisions.without("key" + i);
+        }
+        Assertions.assertEquals(Map.of("Aa", 1_998, "BB", 1_999), collisions.asMap());
+
+        Json mutable = Json.create().put("id", "1");
+        Json derived = mutable.with("type", "people").without("id");
+        Assertions.assertEquals(Json.create().put("id", "1"), mutable);
+        Assertions.assertEquals(Json.create().put("type", "people"), derived);
+    }
+
+    @Test
+    void shouldAccumulateConcurrentlyWithoutLostUpdates() throws InterruptedException {
+        Json accumulator = Json.wrap(MapType.CONCURRENT.createMap());
+        Thread[] workers = new Thread[16];
+        for (int i = 0; i < workers.length; i++) {
+            int worker = i;
+            workers[i] = Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < 500; j++) {
+                    accumulator.append("ids", worker * 500 + j);
+                    accumulator.increment("count");
+                    accumulator.increment("total", 2);
+                    accumulator.computeIfAbsent("first", key -> "worker-" + worker);
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Assertions.assertEquals(8_000, accumulator.integers("ids").size());
+        Assertions.assertEquals(8_000, accumulator.integers("ids").stream().distinct().count());
+        Assertions.assertEquals(8_000L, accumulator.get("count", Long.class));
+        Assertions.assertEquals(16_000L, accumulator.increment("total", 0));
+        Assertions.assertTrue(accumulator.string("first").startsWith("worker-"));
+
+        accumulator.put("missing", (Object) null);
+        Assertions.assertTrue(accumulator.hasKey("missing"));
+        Assertions.assertNull(accumulator.string("missing"));
+        Assertions.assertNull(accumulator.computeIfAbsent("missing", key -> null));
+        Assertions.assertTrue(accumulator.hasKey("missing"));
+        Assertions.assertEquals("set", accumulator.computeIfAbsent("missing", key -> "set"));
+        Assertions.assertEquals(8_000, Json.parse(accumulator.toString()).integers("ids").size());
+        Assertions.assertEquals(List.of(1, 2, 3), Json.wrap(MapType.CONCURRENT.createMap()).put("ids", 1).appendAll("ids", List.of(2, 3)).integers("ids"));
+
+        Json counters = Json.create().put("visits", 4);
+        Assertions.assertEquals(5, counters.increment("visits"));
+        Assertions.assertEquals(1, counters.increment("other"));
+    }
+
+    @Test
+    void shouldAppendInPlace() {
+        List<String> names = new ArrayList<>(List.of("a"));
+        Json json = Json.create().put("names", names);
+
+        json.append("names", "b").append("names", "c");
+        Object backing = json.asMap().get("names");
+        json.append("names", "d");
+
+        Assertions.assertEquals(List.of("a"), names);
+        Assertions.assertSame(backing, json.asMap().get("names"));
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), json.strings("names"));
+
+        for (int i = 0; i < 100_000; i++) {
+            json.append("ids", i);
+        }
+        Assertions.assertEquals(100_000, json.integers("ids").size());
+        Assertions.assertEquals(99_999, json.integers("ids").getLast());
+
+        json.appendAll("ids", List.of(-1, -2)).appendAll("people", List.of(Json.create().put("name", "Jane"), Json.create().put("name", "John")));
+        Assertions.assertEquals(100_002, json.integers("ids").size());
+        Assertions.assertEquals(-2, json.integers("ids").getLast());
+        Assertions.assertEquals("John", json.array("people").get(1).string("name"));
+        Assertions.assertEquals("{\"values\":[1.5,2.5]}", Json.create().append("values", 1.5).appendAll("values", List.of(2.5)).toString());
+
+        Json concurrent = Json.wrap(MapType.CONCURRENT.createMap()).appendAll("ids", List.of(1, 2)).append("ids", 3);
+        Assertions.assertEquals(List.of(1, 2, 3), concurrent.integers("ids"));
+
+        Json base = Json.create().append("ids", 1);
+        base.with("x", 1).append("ids", 2);
+        base.without("x").append("ids", 3);
+        Json.create().put(base.asMap()).append("ids", 4);
+        concurrent.with("x", 1).append("ids", 4);
+        Assertions.assertEquals(List.of(1), base.integers("ids"));
+        Assertions.assertEquals(List.of(1, 2, 3), concurrent.integers("ids"));
+    }
+
+    @Test
+    void shouldStreamJsonWithWriter() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonWriter writer = JsonWriter.create(outputStream)) {
+            writer.put("id", 1)
+                    .put("name", "John Citizen")
+                    .add("gender", null)
+                    .put("verified", true)
+                    .put("address", Json.create().put("postCode", "2000"))
+                    .beginArray("items");
+            for (int i = 0; i < 10_000; i++) {
+                writer.beginObject().put("index", i).end();
+            }
+            writer.end()
+                    .beginObject("meta")
+                    .beginArray("tags")
+                    .append("a")
+                    .append(2.5);
+        }
+
+        Json json = Json.parse(outputStream.toByteArray());
+        Assertions.assertEquals(1, json.integer("id"));
+        Assertions.assertEquals("John Citizen", json.string("name"));
+        Assertions.assertFalse(json.hasKey("gender"));
+        Assertions.assertTrue(json.bool("verified"));
+        Assertions.assertEquals("2000", json.object("address").string("postCode"));
+        Assertions.assertEquals(10_000, json.array("items").size());
+        Assertions.assertEquals(9_999, json.array("items").getLast().integer("index"));
+        Assertions.assertEquals("[\"a\",2.5]", Json.asString(json.object("meta").get("tags", List.class)));
+
+        JsonWriter writer = JsonWriter.create(new ByteArrayOutputStream());
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.append("value"));
+        writer.beginArray("values");
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.put("key", "value"));
+        writer.close();
+    }
+
+    @Test
+    void shouldParseBatches() {
+        List<byte[]> messages = IntStream.range(0, 2_000)
+                .mapToObj(i -> ("{\"id\":" + i + ",\"name\":\"message" + i + "\"}").getBytes(StandardCharsets.UTF_8))
+                .toList();
+
+        JsonBatch sequential = Json.parseAll(messages);
+        JsonBatch parallel = Json.parseAll(messages, true);
+        JsonBatch streamed = Json.parseAll(messages.stream());
+        JsonBatch streamedInParallel = Json.parseAll(messages.stream(), true);
+
+        Assertions.assertEquals(2_000, sequential.size());
+        Assertions.assertEquals(sequential.values(), parallel.values());
+        Assertions.assertEquals(sequential.values(), streamed.values());
+        Assertions.assertEquals(sequential.values(), streamedInParallel.values());
+        Assertions.assertEquals(1_999, parallel.get(1_999).integer("id"));
+        Assertions.assertFalse(parallel.elapsed().isNegative());
+        int expected = 0;
+        for (Json json : parallel) {
+            Assertions.assertEquals(expected++, json.integer("id"));
+        }
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> sequential.values().add(Json.create()));
+
+        List<byte[]> invalid = List.of("{}".getBytes(StandardCharsets.UTF_8), "{".getBytes(StandardCharsets.UTF_8));
+        JsonParseException exception = Assertions.assertThrows(JsonParseException.class, () -> Json.parseAll(invalid, true));
+        Assertions.assertTrue(exception.getMessage().contains("message 1"));
+        JsonParseException streamedException = Assertions.assertThrows(JsonParseException.class, () -> Json.parseAll(invalid.stream()));
+        Assertions.assertTrue(streamedException.getMessage().contains("message 1"));
+    }
 }